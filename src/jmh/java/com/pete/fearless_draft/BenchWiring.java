@@ -0,0 +1,88 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.analytics.DraftAnalytics;
+import com.pete.fearless_draft.cluster.ClusterMembership;
+import com.pete.fearless_draft.cluster.ClusterRouter;
+import com.pete.fearless_draft.cluster.DraftEventBus;
+import com.pete.fearless_draft.journal.DraftJournal;
+import com.pete.fearless_draft.journal.FsyncPolicy;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The draft beans wired by hand, the way Spring wires them, but with a broker channel
+ * that drops every message after conversion (so JSON encoding is still paid for).
+ */
+final class BenchWiring implements AutoCloseable {
+
+    final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    final DraftFormatRegistry formats = new DraftFormatRegistry(new StandardEnvironment());
+    final ChampionRegistry champions = new ChampionRegistry(1024, List.of());
+    final DraftEngine engine = new DraftEngine(formats, champions);
+    final DraftService draftService = new DraftService(engine, formats);
+
+    final SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> true);
+    final HashedTimingWheel wheel = new HashedTimingWheel(10, 512, "bench-wheel");
+    final DraftClock clock = new DraftClock();
+    final DraftLanes lanes;
+    final DraftMetrics metrics = new DraftMetrics();
+    final DraftJournal journal = new DraftJournal(false, Path.of("unused"), FsyncPolicy.NEVER, 1000, 65536, jsonMapper, clock);
+    final DraftStore store = new InMemoryDraftStore();
+    final ClusterRouter cluster;
+    final SpectatorBroadcaster spectators;
+    final DraftBroadcaster broadcaster;
+    final DraftTimerService timerService;
+    final DraftManager draftManager;
+    final SeriesManager seriesManager;
+
+    BenchWiring() {
+        this(false);
+    }
+
+    BenchWiring(boolean virtualThreads) {
+        lanes = new DraftLanes(virtualThreads);
+        cluster = new ClusterRouter(new ClusterMembership(false, "local", List.of()), DraftEventBus.LOCAL, lanes, jsonMapper, Duration.ofSeconds(5));
+
+        JacksonJsonMessageConverter converter = new JacksonJsonMessageConverter(jsonMapper);
+        template.setMessageConverter(converter);
+
+        wheel.start();
+        spectators = new SpectatorBroadcaster(template, jsonMapper, clock, Duration.ofMillis(500), Duration.ZERO);
+        broadcaster = new DraftBroadcaster(template, BroadcastMode.FULL, 32, jsonMapper, false, spectators, clock,
+                new DraftPresence(null, cluster, metrics, clock, false, Duration.ZERO, Duration.ZERO));
+
+        DraftManager[] self = new DraftManager[1];
+        timerService = new DraftTimerService(wheel, clock, (id, phase, step, startedAt) ->
+                self[0].onTurnTimeout(id, phase, step, startedAt));
+
+        draftManager = new DraftManager(draftService, timerService, broadcaster, lanes, journal, metrics, wheel, clock, 40, 30, store, cluster,
+                new DraftAnalytics(champions, formats, 10000));
+        self[0] = draftManager;
+
+        seriesManager = new SeriesManager(draftService, draftManager, template, lanes, journal, store, cluster, 512);
+    }
+
+    /** Champion ids "Champ0".."Champ{n-1}". */
+    static List<String> champions(int from, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) ids.add("Champ" + i);
+        return ids;
+    }
+
+    @Override
+    public void close() throws Exception {
+        wheel.stop();
+        spectators.destroy();
+        lanes.destroy();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.BulkSeriesManifest;
+import com.pete.fearless_draft.series.BulkSeriesRequest;
+import com.pete.fearless_draft.series.CreateSeriesRequest;
+import com.pete.fearless_draft.series.SeriesState;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 256-team bracket round (128 series): POST /series/bulk vs 128 x POST /series,
+ * minus HTTP. Everything created is dropped after each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkProvisionBenchmark {
+
+    @Param({"128"})
+    public int seriesCount;
+
+    private BenchWiring w;
+    private BulkSeriesRequest bulk;
+
+    @Setup
+    public void setup() {
+        w = new BenchWiring();
+
+        List<CreateSeriesRequest> entries = new ArrayList<>(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            CreateSeriesRequest r = new CreateSeriesRequest();
+            r.setBlueTeamName("Team " + (2 * i));
+            r.setRedTeamName("Team " + (2 * i + 1));
+            r.setFirstPickTeam(DraftTurn.BLUE);
+            r.setBestOf(3);
+            entries.add(r);
+        }
+
+        bulk = new BulkSeriesRequest();
+        bulk.setBracket("Round of 256");
+        bulk.setSeries(entries);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clear() {
+        for (SeriesState s : List.copyOf(w.store.allSeries())) w.store.removeSeries(s.seriesId());
+        for (DraftState d : List.copyOf(w.store.drafts())) w.store.removeDraft(d.draftId());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        w.close();
+    }
+
+    @Benchmark
+    public BulkSeriesManifest bulk() {
+        return w.seriesManager.createSeriesBulk(bulk);
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole bh) {
+        for (CreateSeriesRequest r : bulk.getSeries()) {
+            bh.consume(w.seriesManager.createSeries(r));
+        }
+    }
+}
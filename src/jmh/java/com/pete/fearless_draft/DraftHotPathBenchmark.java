@@ -0,0 +1,200 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.SeriesState;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-action cost of the draft pipeline, with allocation rates from the gc profiler
+ * (on by default in the bench profile):
+ *
+ *   mvn -Pbench test-compile exec:exec -Djmh.args="DraftHotPathBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DraftHotPathBenchmark {
+
+    private BenchWiring w;
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    private DraftState lobby;
+    private DraftState midDraft;
+    private List<String> picks;
+
+    @Setup
+    public void setup() {
+        w = new BenchWiring();
+        picks = BenchWiring.champions(0, 20);
+
+        lobby = w.engine.createInitialState(
+                "bench", "Blue", "Red", DraftTurn.BLUE, w.formats.resolve(null),
+                DraftMode.SINGLE, null, 1, List.of()
+        );
+
+        midDraft = lobby;
+        for (int i = 0; i < 10; i++) {
+            midDraft = w.engine.applyAction(midDraft, new DraftAction("bench", midDraft.turn(), picks.get(i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        w.close();
+    }
+
+    /** DraftEngine.applyAction across a full 20-step draft. */
+    @Benchmark
+    public DraftState engineFullDraft() {
+        DraftState s = lobby;
+        for (int i = 0; i < 20; i++) {
+            s = w.engine.applyAction(s, new DraftAction("bench", s.turn(), picks.get(i)));
+        }
+        return s;
+    }
+
+    /** Same through DraftService (engine + preview clearing), what the lane actually calls. */
+    @Benchmark
+    public DraftState serviceFullDraft() {
+        DraftState s = lobby;
+        for (int i = 0; i < 20; i++) {
+            s = w.draftService.applyAction(s, new DraftAction("bench", s.turn(), picks.get(i)));
+        }
+        return s;
+    }
+
+    @Benchmark
+    public DraftState serviceSetPreview() {
+        return w.draftService.setPreview(midDraft, DraftTurn.BLUE, "Champ15");
+    }
+
+    /**
+     * DraftManager end to end: ready-up, 20 actions through the draft's lane, state
+     * copies, timer churn and a JSON broadcast per change. startDraft is synchronous
+     * on the same lane, so it doubles as the "all done" barrier.
+     */
+    @Benchmark
+    public DraftState managerFullDraft() {
+        DraftState created = w.draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null);
+        String id = created.draftId();
+
+        w.draftManager.setReady(id, DraftTurn.BLUE, true);
+        w.draftManager.setReady(id, DraftTurn.RED, true);
+
+        DraftTurn[] order = turns(created);
+        for (int i = 0; i < 20; i++) {
+            w.draftManager.applyAction(id, new DraftAction(id, order[i], picks.get(i)));
+        }
+
+        DraftState done = w.draftManager.startDraft(id);
+        w.draftManager.evict(id);
+        return done;
+    }
+
+    private DraftTurn[] turns(DraftState s) {
+        DraftFormat f = w.formats.get(s.format());
+        DraftTurn[] out = new DraftTurn[f.size()];
+        for (int i = 0; i < out.length; i++) out[i] = f.step(s.firstPickTeam(), i).turn();
+        return out;
+    }
+
+    /* ---------------- SERIALIZATION ---------------- */
+
+    @State(Scope.Benchmark)
+    public static class SeriesGame {
+        // game 5 of a Bo5 carries 40 fearless-locked champions
+        @Param({"1", "3", "5"})
+        public int gameNumber;
+
+        DraftState state;
+        DraftState stored;
+
+        @Setup
+        public void setup(DraftHotPathBenchmark b) {
+            List<String> locked = BenchWiring.champions(100, (gameNumber - 1) * 10);
+            DraftState s = b.w.engine.createInitialState(
+                    "bench", "Blue", "Red", DraftTurn.BLUE, b.w.formats.resolve(null),
+                    DraftMode.FEARLESS_SERIES, "series", gameNumber, locked
+            );
+            for (int i = 0; i < 10; i++) {
+                s = b.w.engine.applyAction(s, new DraftAction("bench", s.turn(), b.picks.get(i)));
+            }
+            stored = s;
+            state = b.w.broadcaster.withServerTime(s);
+        }
+    }
+
+    @Benchmark
+    public byte[] jacksonDraftState(SeriesGame game) {
+        return w.jsonMapper.writeValueAsBytes(game.state);
+    }
+
+    @Benchmark
+    public byte[] cborDraftState(SeriesGame game) {
+        return cborMapper.writeValueAsBytes(game.state);
+    }
+
+    // what every send / GET after the first pays for an unchanged state
+    @Benchmark
+    public byte[] cachedDraftState(SeriesGame game) {
+        return w.broadcaster.toJson(game.stored, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public byte[] cachedCborDraftState(SeriesGame game) {
+        return w.broadcaster.toBytes(game.stored, WireFormat.CBOR, System.currentTimeMillis());
+    }
+
+    /* ---------------- SERIES ---------------- */
+
+    @State(Scope.Thread)
+    public static class SeriesAtGame {
+        @Param({"2", "5"})
+        public int nextGame;
+
+        String seriesId;
+        CreateDraftRequest request;
+
+        @Setup(Level.Invocation)
+        public void setup(DraftHotPathBenchmark b) {
+            BenchWiring w = b.w;
+            seriesId = "series-bench";
+            String draftId = "series-bench-game-" + (nextGame - 1);
+
+            List<String> locked = BenchWiring.champions(100, (nextGame - 2) * 10);
+            DraftState game = w.engine.createInitialState(
+                    draftId, "Blue", "Red", DraftTurn.BLUE, w.formats.resolve(null),
+                    DraftMode.FEARLESS_SERIES, seriesId, nextGame - 1, locked
+            );
+            for (int i = 0; i < 20; i++) {
+                game = w.engine.applyAction(game, new DraftAction(draftId, game.turn(), b.picks.get(i)));
+            }
+            w.draftManager.registerDraft(game);
+
+            w.seriesManager.restore(List.of(new SeriesState(
+                    seriesId, "Blue", "Red", DraftTurn.BLUE, 5, nextGame - 1, draftId,
+                    locked, DraftFormatRegistry.STANDARD
+            )));
+
+            request = new CreateDraftRequest();
+            request.setBlueTeamName("Blue");
+            request.setRedTeamName("Red");
+            request.setFirstPickTeam(DraftTurn.RED);
+        }
+    }
+
+    /** SeriesManager.nextGame: carrying the fearless locks over plus the next game's draft. */
+    @Benchmark
+    public DraftState seriesNextGame(SeriesAtGame series, Blackhole bh) {
+        DraftState next = w.seriesManager.nextGame(series.seriesId, series.request);
+        bh.consume(next.lockedChampionIds().size());
+        return next;
+    }
+}
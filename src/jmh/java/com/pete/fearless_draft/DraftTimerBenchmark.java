@@ -0,0 +1,88 @@
+package com.pete.fearless_draft;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer churn: every pick/ban cancels the draft's pending timeout and arms a new one.
+ * Compares the timing wheel behind DraftTimerService with the per-draft ScheduledFuture
+ * approach it replaced (4-thread ThreadPoolTaskScheduler + future map).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DraftTimerBenchmark {
+
+    @Param({"10000", "50000"})
+    public int liveDrafts;
+
+    private DraftState[] states;
+
+    private HashedTimingWheel wheel;
+    private DraftTimerService wheelTimers;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private final Map<String, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setup() {
+        states = new DraftState[liveDrafts];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < liveDrafts; i++) {
+            states[i] = new DraftState(
+                    "draft-" + i, "Blue", "Red", DraftTurn.BLUE,
+                    DraftPhase.BAN, 0, DraftTurn.BLUE,
+                    List.of(), List.of(), List.of(), Map.of(), null,
+                    now, 30, 0L, 0L, 0L, true, true,
+                    DraftMode.SINGLE, null, 1, List.of(), 0L, DraftFormatRegistry.STANDARD,
+                    ChampionSet.EMPTY, FearlessLocks.EMPTY
+            );
+        }
+
+        wheel = new HashedTimingWheel(10, 512, "bench-wheel");
+        wheel.start();
+        wheelTimers = new DraftTimerService(wheel, new DraftClock(), (id, phase, step, startedAt) -> {});
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("bench-timer-");
+        scheduler.initialize();
+    }
+
+    @TearDown
+    public void tearDown() {
+        wheel.stop();
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public void timingWheel() {
+        wheelTimers.schedule(next());
+    }
+
+    @Benchmark
+    public void scheduledFutures() {
+        DraftState s = next();
+        ScheduledFuture<?> old = futures.remove(s.draftId());
+        if (old != null) old.cancel(false);
+
+        Instant fireAt = Instant.ofEpochMilli(s.turnStartedAt()).plusSeconds(s.turnDurationSeconds());
+        futures.put(s.draftId(), scheduler.schedule(() -> {}, fireAt));
+    }
+
+    private DraftState next() {
+        return states[ThreadLocalRandom.current().nextInt(states.length)];
+    }
+}
@@ -0,0 +1,70 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.journal.DraftJournal;
+import com.pete.fearless_draft.journal.FsyncPolicy;
+import com.pete.fearless_draft.journal.JournalSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of rebuilding the draft map from a journal of 100k events
+ * (5,000 drafts x 20 picks/bans each).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalRecoveryBenchmark {
+
+    private static final int DRAFTS = 5_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeJournal() throws Exception {
+        file = Files.createTempFile("draft-journal", ".log");
+        Files.delete(file);
+
+        DraftJournal journal = new DraftJournal(true, file, FsyncPolicy.NEVER, 1000, 65536, jsonMapper, new DraftClock());
+        journal.recoverAndOpen();
+
+        DraftEngine engine = new DraftEngine(
+                new DraftFormatRegistry(new StandardEnvironment()),
+                new ChampionRegistry(1024, List.of())
+        );
+        DraftFormat format = new DraftFormatRegistry(new StandardEnvironment()).resolve(null);
+
+        for (int d = 0; d < DRAFTS; d++) {
+            DraftState s = engine.createInitialState(
+                    "draft-" + d, "Blue", "Red", DraftTurn.BLUE, format,
+                    DraftMode.FEARLESS_SERIES, "series-" + d, 1, List.of()
+            );
+            for (int step = 0; step < format.size(); step++) {
+                s = engine.applyAction(s, new DraftAction(s.draftId(), s.turn(), "Champ" + step));
+                journal.draftChanged(s);
+            }
+        }
+
+        journal.destroy();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJournal() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public JournalSnapshot replay100kEvents() throws IOException {
+        return DraftJournal.replay(file, jsonMapper);
+    }
+}
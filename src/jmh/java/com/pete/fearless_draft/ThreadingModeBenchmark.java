@@ -0,0 +1,85 @@
+package com.pete.fearless_draft;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform vs virtual threads for the inbound path: a STOMP frame is handled on the
+ * inbound channel executor, hops onto the draft's lane, mutates and broadcasts.
+ * Each op waits for its own mutation to be applied, so SampleTime gives the p99 a
+ * client would see and Throughput the sustained rate, across many live drafts.
+ *
+ * PLATFORM mirrors Spring's default channel pool (2 x cores) and the core-sized lane
+ * pool; VIRTUAL is what spring.threads.virtual.enabled=true gives. Needs Java 21+:
+ *   PATH=$JAVA21/bin:$PATH mvn -Pbench test-compile exec:exec -Djmh.args="ThreadingModeBenchmark"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ThreadingModeBenchmark {
+
+    public enum ThreadMode { PLATFORM, VIRTUAL }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ThreadMode mode;
+
+    @Param({"10000"})
+    public int liveDrafts;
+
+    private BenchWiring w;
+    private Executor inbound;
+    private ThreadPoolTaskExecutor inboundPool;
+    private String[] draftIds;
+
+    @Setup
+    public void setup() {
+        w = new BenchWiring(mode == ThreadMode.VIRTUAL);
+
+        if (mode == ThreadMode.VIRTUAL) {
+            inbound = new VirtualThreadTaskExecutor("bench-inbound-");
+        } else {
+            inboundPool = new ThreadPoolTaskExecutor();
+            inboundPool.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+            inboundPool.setThreadNamePrefix("bench-inbound-");
+            inboundPool.initialize();
+            inbound = inboundPool;
+        }
+
+        // lobbies: RED stays unready, so toggling BLUE is a mutation + full broadcast forever
+        draftIds = new String[liveDrafts];
+        for (int i = 0; i < liveDrafts; i++) {
+            draftIds[i] = w.draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (inboundPool != null) inboundPool.shutdown();
+        w.close();
+    }
+
+    @Benchmark
+    public Object readyToggle() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        String draftId = draftIds[rnd.nextInt(draftIds.length)];
+        boolean ready = rnd.nextBoolean();
+
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        inbound.execute(() -> {
+            w.draftManager.setReady(draftId, DraftTurn.BLUE, ready);
+            // lane order: this runs right after the setReady above
+            w.lanes.execute(draftId, () -> applied.complete(null));
+        });
+        return applied.join();
+    }
+}
@@ -0,0 +1,6 @@
+package com.pete.fearless_draft;
+
+public enum BroadcastMode {
+    FULL,   // full DraftState to /topic/draft/{id} on every change (default, what the current client expects)
+    DELTA   // DraftPatch to /topic/draft/{id}/patches; full state only when a draft is registered
+}
@@ -0,0 +1,113 @@
+package com.pete.fearless_draft;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns champion ids (the Strings on the wire) to dense ints so DraftEngine can keep
+ * used/locked champions in a ChampionSet. Ids never change for the life of the process.
+ *
+ * With draft.champions.catalog set, the catalog is interned up front and is the whole
+ * registry: any other id is UNKNOWN_CHAMPION. Without it, any id is accepted and ids are
+ * assigned on first use up to draft.champions.max. Past that, new ids get no index
+ * ({@link #intern} returns -1): DraftEngine checks those against the state's id lists
+ * instead of the bitsets, so made-up ids filling the room cost speed, never correctness.
+ */
+@Component
+public class ChampionRegistry {
+
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+    private final String[] names;
+    private final boolean closed;
+    private int nextIndex; // guarded by this
+
+    public ChampionRegistry(
+            @Value("${draft.champions.max:1024}") int maxChampions,
+            @Value("${draft.champions.catalog:}") List<String> catalog
+    ) {
+        List<String> seed = catalog.stream().map(String::trim).filter(id -> !id.isEmpty()).distinct().toList();
+        this.names = new String[Math.max(maxChampions, seed.size())];
+        this.closed = !seed.isEmpty();
+        for (String id : seed) {
+            names[nextIndex] = id;
+            indices.put(id, nextIndex++);
+        }
+    }
+
+    /** Dense index for a champion id, assigning one on first sight. */
+    public int indexOf(String championId) {
+        Integer idx = indices.get(championId);
+        return idx != null ? idx : assign(championId);
+    }
+
+    /** Index of an id already seen, or -1. Never assigns (safe for lookups from requests). */
+    public int find(String championId) {
+        Integer idx = indices.get(championId);
+        return idx != null ? idx : -1;
+    }
+
+    /** False only for an id outside the catalog, when there is one. Never assigns. */
+    public boolean accepts(String championId) {
+        return !closed || indices.containsKey(championId);
+    }
+
+    /** Dense index for an accepted id, assigning one if there is room, else -1 (overflow). */
+    public int intern(String championId) {
+        Integer idx = indices.get(championId);
+        if (idx != null) return idx;
+        if (closed) return -1;
+
+        synchronized (this) {
+            return nextIndex < names.length ? assign(championId) : -1;
+        }
+    }
+
+    private synchronized int assign(String championId) {
+        Integer idx = indices.get(championId);
+        if (idx != null) return idx;
+
+        if (closed || nextIndex >= names.length) {
+            throw new DraftRejectedException(RejectReason.UNKNOWN_CHAMPION, "Unknown champion: " + championId);
+        }
+
+        int assigned = nextIndex++;
+        names[assigned] = championId;
+        indices.put(championId, assigned);
+        return assigned;
+    }
+
+    public String nameOf(int index) {
+        return names[index];
+    }
+
+    public int size() {
+        return indices.size();
+    }
+
+    /** Upper bound on indices (draft.champions.max). */
+    public int capacity() {
+        return names.length;
+    }
+
+    /**
+     * Bitset of the given ids that have an index, skipping the NONE placeholder. Ids without
+     * one (overflow, or journaled before the catalog dropped them) are left out: callers
+     * keep the id lists and check those ids by name.
+     */
+    public ChampionSet setOf(Collection<String> championIds) {
+        ChampionSet set = ChampionSet.EMPTY;
+        if (championIds == null) return set;
+
+        for (String id : championIds) {
+            if (id == null || DraftConstants.NONE_CHAMPION_ID.equals(id)) continue;
+            int champion = intern(id);
+            if (champion >= 0) set = set.with(champion);
+        }
+        return set;
+    }
+}
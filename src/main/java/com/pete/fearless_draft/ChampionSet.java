@@ -0,0 +1,68 @@
+package com.pete.fearless_draft;
+
+import java.util.Arrays;
+
+/**
+ * Immutable bitset over ChampionRegistry indices. The whole champion pool fits in a
+ * handful of longs, so membership is a single bit test and adding copies a tiny array.
+ */
+public final class ChampionSet {
+
+    public static final ChampionSet EMPTY = new ChampionSet(new long[0]);
+
+    private final long[] words;
+
+    private ChampionSet(long[] words) {
+        this.words = words;
+    }
+
+    public boolean contains(int index) {
+        int w = index >>> 6;
+        return w < words.length && (words[w] & (1L << index)) != 0;
+    }
+
+    public ChampionSet with(int index) {
+        if (contains(index)) return this;
+
+        int w = index >>> 6;
+        long[] copy = Arrays.copyOf(words, Math.max(words.length, w + 1));
+        copy[w] |= 1L << index;
+        return new ChampionSet(copy);
+    }
+
+    public ChampionSet union(ChampionSet other) {
+        long[] big = words.length >= other.words.length ? words : other.words;
+        long[] small = big == words ? other.words : words;
+
+        long[] out = big.clone();
+        for (int i = 0; i < small.length; i++) out[i] |= small[i];
+        return new ChampionSet(out);
+    }
+
+    public int size() {
+        int n = 0;
+        for (long w : words) n += Long.bitCount(w);
+        return n;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ChampionSet other)) return false;
+        int n = Math.max(words.length, other.words.length);
+        for (int i = 0; i < n; i++) {
+            long a = i < words.length ? words[i] : 0L;
+            long b = i < other.words.length ? other.words[i] : 0L;
+            if (a != b) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (long w : words) {
+            if (w != 0) h = 31 * h + Long.hashCode(w);
+        }
+        return h;
+    }
+}
@@ -10,5 +10,6 @@ public class CreateDraftRequest {
     private String blueTeamName;
     private String redTeamName;
     private DraftTurn firstPickTeam; // "BLUE" or "RED"
+    private String format;           // DraftFormatRegistry id; null = STANDARD
 
 }
@@ -1,8 +1,25 @@
 package com.pete.fearless_draft;
 
+/**
+ * A pick or ban.
+ *
+ * @param expectedStep the step the client saw when it acted. If the draft has moved on
+ *                     (the click was doubled, or landed after the turn timed out), the
+ *                     action is dropped instead of being applied to the next turn. Null
+ *                     (older clients, timeouts, server-side callers) skips the check.
+ */
 public record DraftAction(
         String draftId,
         DraftTurn team,
-        String championId
+        String championId,
+        Integer expectedStep
 ) {
+    public DraftAction(String draftId, DraftTurn team, String championId) {
+        this(draftId, team, championId, null);
+    }
+
+    /** True if the action was meant for a step other than the draft's current one. */
+    public boolean isStaleFor(DraftState state) {
+        return expectedStep != null && expectedStep != state.step();
+    }
 }
@@ -0,0 +1,297 @@
+package com.pete.fearless_draft;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Everything that goes out on /topic/draft/**.
+ *
+ * FULL mode sends the whole DraftState on every change. DELTA mode sends a DraftPatch to
+ * /topic/draft/{id}/patches and keeps the last few per draft so clients can catch up.
+ *
+ * Full states are encoded to JSON once per stored state and cached; only serverNow
+ * changes between sends, so it is spliced into the cached bytes instead of re-serializing.
+ * The same bytes back GET /draft/{id}.
+ *
+ * With draft.broadcast.cbor=true every message is also sent CBOR-encoded (encoded once,
+ * cached the same way) to the /topic/cbor/draft/** copy that CBOR connections subscribe to,
+ * for drafts that have a CBOR subscriber.
+ *
+ * Every state also goes to the SpectatorBroadcaster, which feeds /topic/spectate/{id} on
+ * its own thread and at its own rate.
+ *
+ * Nothing is encoded or sent for a draft no player is subscribed to (see DraftPresence).
+ *
+ * Refused actions go to the acting session alone, on /user/queue/rejections.
+ */
+@Component
+public class DraftBroadcaster {
+
+    /** Per-session; clients subscribe to /user/queue/rejections. */
+    public static final String REJECTIONS_QUEUE = "/queue/rejections";
+
+    private final SimpMessagingTemplate brokerMessagingTemplate;
+    private final BroadcastMode mode;
+    private final int patchLogSize;
+    private final List<WireFormat> formats;
+    private final SpectatorBroadcaster spectators;
+    private final DraftClock clock;
+    private final DraftPresence presence;
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    private final Map<String, DraftPatchLog> patchLogs = new ConcurrentHashMap<>();
+    private final Map<WireFormat, Map<String, EncodedState>> encoded = new EnumMap<>(WireFormat.class);
+
+    public DraftBroadcaster(
+            SimpMessagingTemplate brokerMessagingTemplate,
+            @Value("${draft.broadcast.mode:FULL}") BroadcastMode mode,
+            @Value("${draft.broadcast.patch-log-size:32}") int patchLogSize,
+            JsonMapper jsonMapper,
+            @Value("${draft.broadcast.cbor:false}") boolean cbor,
+            SpectatorBroadcaster spectators,
+            DraftClock clock,
+            DraftPresence presence
+    ) {
+        this.brokerMessagingTemplate = brokerMessagingTemplate;
+        this.mode = mode;
+        this.patchLogSize = patchLogSize;
+        this.formats = cbor ? List.of(WireFormat.JSON, WireFormat.CBOR) : List.of(WireFormat.JSON);
+        this.spectators = spectators;
+        this.clock = clock;
+        this.presence = presence;
+
+        mappers.put(WireFormat.JSON, jsonMapper);
+        mappers.put(WireFormat.CBOR, CBORMapper.builder().build());
+        for (WireFormat f : WireFormat.values()) encoded.put(f, new ConcurrentHashMap<>());
+    }
+
+    public static String draftTopic(String draftId) {
+        return "/topic/draft/" + draftId;
+    }
+
+    public static String patchTopic(String draftId) {
+        return "/topic/draft/" + draftId + "/patches";
+    }
+
+    /** Full state, regardless of mode (new drafts, resyncs). */
+    public void snapshot(DraftState state) {
+        if (!presence.skipBroadcast(state.draftId())) {
+            long now = clock.now();
+            for (WireFormat f : formats) {
+                if (wanted(f, state.draftId())) send(f, draftTopic(state.draftId()), toBytes(state, f, now));
+            }
+        }
+        spectators.offer(state);
+    }
+
+    /** A committed change: full state in FULL mode, the patch in DELTA mode. */
+    public void publish(DraftState next, DraftPatch patch) {
+        if (mode == BroadcastMode.FULL) {
+            snapshot(next);
+            return;
+        }
+
+        patchLogs.computeIfAbsent(next.draftId(), id -> new DraftPatchLog(patchLogSize)).append(patch);
+
+        if (!presence.skipBroadcast(next.draftId())) {
+            DraftPatch timed = patch.withServerTime(clock.now(), turnEndsAt(next));
+            for (WireFormat f : formats) {
+                if (wanted(f, next.draftId())) send(f, patchTopic(next.draftId()), mappers.get(f).writeValueAsBytes(timed));
+            }
+        }
+        spectators.offer(next);
+    }
+
+    /** To one session only (no Principal needed: the session id stands in for the user). */
+    public void reject(String sessionId, DraftRejection rejection) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        brokerMessagingTemplate.convertAndSendToUser(sessionId, REJECTIONS_QUEUE, rejection, headers.getMessageHeaders());
+    }
+
+    // JSON always goes out (REST reads the same cache); CBOR only if someone takes it
+    private boolean wanted(WireFormat format, String draftId) {
+        return format == WireFormat.JSON || presence.cborWatched(draftId);
+    }
+
+    private void send(WireFormat format, String jsonTopic, byte[] payload) {
+        brokerMessagingTemplate.send(format.topic(jsonTopic), MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, format.mimeType())
+                .build());
+    }
+
+    /**
+     * Patches after sinceVersion, oldest first.
+     * @return null if they have fallen out of the log (client should GET the full draft)
+     */
+    public List<DraftPatch> patchesSince(DraftState current, long sinceVersion) {
+        if (sinceVersion >= current.version()) return List.of();
+
+        DraftPatchLog log = patchLogs.get(current.draftId());
+        return log == null ? null : log.since(sinceVersion);
+    }
+
+    public void forget(String draftId) {
+        patchLogs.remove(draftId);
+        for (Map<String, EncodedState> cache : encoded.values()) cache.remove(draftId);
+        spectators.forget(draftId);
+    }
+
+    /* ---------------- SERIALIZE ONCE ---------------- */
+
+    /** The state as client JSON with serverNow = now. Encodes only if this state hasn't been yet. */
+    public byte[] toJson(DraftState state, long now) {
+        return toBytes(state, WireFormat.JSON, now);
+    }
+
+    /** Same bytes as {@link #toJson} without touching the cache (states this node doesn't own). */
+    public byte[] toJsonUncached(DraftState state, long now) {
+        return encode(state, WireFormat.JSON).withServerNow(now);
+    }
+
+    public byte[] toBytes(DraftState state, WireFormat format, long now) {
+        Map<String, EncodedState> cache = encoded.get(format);
+
+        EncodedState e = cache.get(state.draftId());
+        if (e == null || e.source() != state) {
+            e = encode(state, format);
+            // a slow reader (REST) must not replace a newer state the lane already cached
+            cache.merge(state.draftId(), e, (old, mine) -> mine.source().version() >= old.source().version() ? mine : old);
+        }
+        return e.withServerNow(now);
+    }
+
+    /*
+     * serverNow is serialized as a marker, then cut out and re-filled per send:
+     *   JSON  "serverNow":-9223372036854775808  -> head + digits(now) + tail
+     *   CBOR  "serverNow" 0x1b <8 bytes>         -> same length; now always fits the 8-byte form
+     * DraftState writes serverNow first, and only the bytes before the first field's end are
+     * searched: a team name spelling the marker (CBOR strings are raw) can't be matched.
+     */
+    private static final long JSON_NOW_MARK = Long.MIN_VALUE;
+    private static final long CBOR_NOW_MARK = 0x7F5E_4A3C_2B1D_0E0FL;
+    private static final byte CBOR_UINT64 = 0x1b;
+
+    private static final byte[] JSON_NOW_FIELD = ("\"serverNow\":" + JSON_NOW_MARK).getBytes(StandardCharsets.UTF_8);
+    private static final int JSON_MARK_LEN = Long.toString(JSON_NOW_MARK).length();
+    private static final byte[] CBOR_NOW_FIELD = cborNowField();
+    private static final int CBOR_MARK_LEN = 9;
+
+    private static byte[] cborNowField() {
+        byte[] key = "serverNow".getBytes(StandardCharsets.UTF_8);
+        byte[] field = new byte[1 + key.length + CBOR_MARK_LEN];
+        field[0] = (byte) (0x60 | key.length);      // text string, length < 24
+        System.arraycopy(key, 0, field, 1, key.length);
+        field[1 + key.length] = CBOR_UINT64;
+        for (int i = 0; i < 8; i++) field[field.length - 1 - i] = (byte) (CBOR_NOW_MARK >>> (8 * i));
+        return field;
+    }
+
+    private EncodedState encode(DraftState state, WireFormat format) {
+        boolean json = format == WireFormat.JSON;
+        byte[] bytes = mappers.get(format).writeValueAsBytes(withServerTime(state, json ? JSON_NOW_MARK : CBOR_NOW_MARK));
+
+        byte[] field = json ? JSON_NOW_FIELD : CBOR_NOW_FIELD;
+        int markLen = json ? JSON_MARK_LEN : CBOR_MARK_LEN;
+
+        // room for the map/object header ahead of the first field
+        int at = indexOf(bytes, field, field.length + 8);
+        if (at < 0) throw new IllegalStateException("serverNow missing from " + format + " draft " + state.draftId());
+
+        int split = at + field.length - markLen;
+        return new EncodedState(
+                state,
+                format,
+                Arrays.copyOfRange(bytes, 0, split),
+                Arrays.copyOfRange(bytes, split + markLen, bytes.length)
+        );
+    }
+
+    private record EncodedState(DraftState source, WireFormat format, byte[] head, byte[] tail) {
+        byte[] withServerNow(long now) {
+            byte[] value;
+            if (format == WireFormat.JSON) {
+                value = Long.toString(now).getBytes(StandardCharsets.US_ASCII);
+            } else {
+                value = new byte[CBOR_MARK_LEN];
+                value[0] = CBOR_UINT64;
+                for (int i = 0; i < 8; i++) value[8 - i] = (byte) (now >>> (8 * i));
+            }
+
+            byte[] out = Arrays.copyOf(head, head.length + value.length + tail.length);
+            System.arraycopy(value, 0, out, head.length, value.length);
+            System.arraycopy(tail, 0, out, head.length + value.length, tail.length);
+            return out;
+        }
+    }
+
+    // needle within the first `within` bytes of haystack
+    private static int indexOf(byte[] haystack, byte[] needle, int within) {
+        outer:
+        for (int i = 0; i <= Math.min(haystack.length, within) - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    DraftState withServerTime(DraftState s) {
+        return withServerTime(s, clock.now());
+    }
+
+    private static DraftState withServerTime(DraftState s, long now) {
+        return new DraftState(
+                s.draftId(),
+                s.blueTeamName(),
+                s.redTeamName(),
+                s.firstPickTeam(),
+                s.phase(),
+                s.step(),
+                s.turn(),
+                s.bluePicks(),
+                s.redPicks(),
+                s.bans(),
+                s.previews(),
+                s.lastPickedChampion(),
+                s.turnStartedAt(),
+                s.turnDurationSeconds(),
+                now,
+                turnEndsAt(s),
+                s.pausedAt(),
+                s.blueReady(),
+                s.redReady(),
+                s.mode(),
+                s.seriesId(),
+                s.gameNumber(),
+                s.lockedChampionIds(),
+                s.version(),
+                s.format(),
+                s.usedChampions(),
+                s.fearlessLocks()
+        );
+    }
+
+    private static long turnEndsAt(DraftState s) {
+        return (s.turnStartedAt() > 0 && s.turnDurationSeconds() > 0)
+                ? s.turnStartedAt() + (s.turnDurationSeconds() * 1000L)
+                : 0L;
+    }
+}
@@ -0,0 +1,29 @@
+package com.pete.fearless_draft;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The clock every turn is timed on: epoch ms, but advanced by System.nanoTime() from one
+ * wall-clock reading taken at boot. An NTP step (or someone setting the date) on the host
+ * can't shorten or stretch a running turn; it only shows up as drift against wall time,
+ * which clients absorb through the /app/time/ping exchange.
+ *
+ * turnStartedAt, pausedAt, turnEndsAt and serverNow are all on this clock, so they can be
+ * compared with each other but not with another node's (or a previous run's) to the ms.
+ */
+@Component
+public class DraftClock {
+
+    private final long originMillis;
+    private final long originNanos;
+
+    public DraftClock() {
+        this.originMillis = System.currentTimeMillis();
+        this.originNanos = System.nanoTime();
+    }
+
+    /** Epoch ms, never goes backwards. */
+    public long now() {
+        return originMillis + (System.nanoTime() - originNanos) / 1_000_000;
+    }
+}
@@ -1,15 +1,27 @@
 package com.pete.fearless_draft;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/draft")
 public class DraftController {
 
     private final DraftManager draftManager;
+    private final DraftFormatRegistry formats;
+    private final SpectatorBroadcaster spectators;
 
-    public DraftController(DraftManager draftManager) {
+    public DraftController(DraftManager draftManager, DraftFormatRegistry formats, SpectatorBroadcaster spectators) {
         this.draftManager = draftManager;
+        this.formats = formats;
+        this.spectators = spectators;
     }
 
     @PostMapping
@@ -17,18 +29,63 @@ public class DraftController {
         return draftManager.createNewDraft(
                 request.getBlueTeamName(),
                 request.getRedTeamName(),
-                request.getFirstPickTeam()
+                request.getFirstPickTeam(),
+                request.getFormat()
         );
     }
 
+    // format id -> step spec ("B1" = first-pick team bans, "P2" = second team picks)
+    @GetMapping("/formats")
+    public Map<String, String> getFormats() {
+        Map<String, String> out = new LinkedHashMap<>();
+        formats.all().forEach((id, f) -> out.put(id, f.spec()));
+        return out;
+    }
+
     @PostMapping("/{draftId}/start")
     public  DraftState startDraft(@PathVariable String draftId) {
         return draftManager.startDraft(draftId);
     }
 
+    // Referee: freeze / unfreeze the running turn's clock
+    @PostMapping("/{draftId}/pause")
+    public DraftState pauseDraft(@PathVariable String draftId) {
+        return draftManager.pauseDraft(draftId);
+    }
+
+    @PostMapping("/{draftId}/resume")
+    public DraftState resumeDraft(@PathVariable String draftId) {
+        return draftManager.resumeDraft(draftId);
+    }
+
+    // ETag is the draft version, so polling an unchanged draft is a 304 with nothing serialized.
+    // Weak because serverNow differs between otherwise identical bodies.
     @GetMapping("/{draftId}")
-    public DraftState getDraft(@PathVariable String draftId) {
-        return draftManager.getForClient(draftId);
+    public ResponseEntity<byte[]> getDraft(@PathVariable String draftId, WebRequest request) {
+        DraftState state = draftManager.get(draftId);
+        String etag = "W/\"" + state.version() + "\"";
+        if (request.checkNotModified(etag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(draftManager.toClientJson(state));
+    }
+
+    // Catch-up for DELTA broadcasts. 410 means the gap is too large: GET /draft/{id} instead.
+    @GetMapping("/{draftId}/patches")
+    public ResponseEntity<List<DraftPatch>> getPatches(@PathVariable String draftId, @RequestParam long since) {
+        List<DraftPatch> patches = draftManager.getPatchesSince(draftId, since);
+        if (patches == null) return ResponseEntity.status(HttpStatus.GONE).build();
+        return ResponseEntity.ok(patches);
+    }
+
+    // The frame /topic/spectate/{id} last carried (same bytes). 204 until the first one goes out.
+    @GetMapping("/{draftId}/spectate")
+    public ResponseEntity<byte[]> getSpectatorView(@PathVariable String draftId) {
+        byte[] frame = spectators.latest(draftId);
+        if (frame == null) return ResponseEntity.noContent().build();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(frame);
     }
 
 }
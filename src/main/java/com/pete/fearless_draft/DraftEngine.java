@@ -7,18 +7,44 @@ import java.util.*;
 @Component
 public class DraftEngine {
 
+    private final DraftFormatRegistry formats;
+    private final ChampionRegistry champions;
+
+    public DraftEngine(DraftFormatRegistry formats, ChampionRegistry champions) {
+        this.formats = formats;
+        this.champions = champions;
+    }
+
     public DraftState createInitialState(
             String draftId,
             String blueTeamName,
             String redTeamName,
             DraftTurn firstPickTeam,
+            DraftFormat format,
             DraftMode mode,
             String seriesId,
             int gameNumber,
             List<String> lockedChampionIds
     ) {
-        DraftStep[] steps = DraftOrder.build(firstPickTeam);
-        DraftStep first = steps[0];
+        return createInitialState(draftId, blueTeamName, redTeamName, firstPickTeam, format, mode, seriesId, gameNumber,
+                lockedChampionIds == null || lockedChampionIds.isEmpty()
+                        ? FearlessLocks.EMPTY
+                        : FearlessLocks.of(champions.setOf(lockedChampionIds), lockedChampionIds));
+    }
+
+    /** @param locks what earlier games of the series locked (the previous game's {@link FearlessLocks#nextGame()}) */
+    public DraftState createInitialState(
+            String draftId,
+            String blueTeamName,
+            String redTeamName,
+            DraftTurn firstPickTeam,
+            DraftFormat format,
+            DraftMode mode,
+            String seriesId,
+            int gameNumber,
+            FearlessLocks locks
+    ) {
+        DraftStep first = format.step(firstPickTeam, 0);
 
         return new DraftState(
                 draftId,
@@ -41,6 +67,7 @@ public class DraftEngine {
                 0,            // turnDurationSeconds (stamped by DraftManager)
                 0L,           // serverNow (enriched at broadcast-time)
                 0L,           // turnEndsAt (enriched at broadcast-time)
+                0L,           // pausedAt
 
                 false,        // blueReady
                 false,        // redReady
@@ -48,103 +75,99 @@ public class DraftEngine {
                 mode,
                 seriesId,
                 gameNumber,
-                lockedChampionIds == null ? List.of() : List.copyOf(lockedChampionIds)
+                locks.carriedIds(),
+                0L,           // version
+                format.id(),
+                ChampionSet.EMPTY,
+                locks
         );
     }
 
     public DraftState applyAction(DraftState state, DraftAction action) {
-        if (state.phase() == DraftPhase.COMPLETE) {
-            throw new IllegalStateException("Draft is complete");
-        }
+        return applyAction(state, action, 0L, 0, state.version());
+    }
 
-        DraftStep[] steps = DraftOrder.build(state.firstPickTeam());
+    /**
+     * Why the rules refuse action in state, or null if they allow it. Returns instead of
+     * throwing, so refused clicks (wrong turn, taken or locked champion) cost a comparison
+     * or two, and assigns no champion index.
+     */
+    public RejectReason validate(DraftState state, DraftAction action) {
+        if (state.phase() == DraftPhase.COMPLETE) return RejectReason.DRAFT_COMPLETE;
 
-        if (state.step() < 0 || state.step() >= steps.length) {
-            throw new IllegalStateException("Invalid draft step: " + state.step());
-        }
+        DraftFormat format = formats.get(state.format());
+        if (state.step() < 0 || state.step() >= format.size()) return RejectReason.INVALID_STEP;
 
-        DraftStep step = steps[state.step()];
+        DraftStep step = format.step(state.firstPickTeam(), state.step());
+        if (step.turn() != action.team()) return RejectReason.NOT_YOUR_TURN;
+        if (step.phase() != state.phase()) return RejectReason.WRONG_PHASE;
+        if (action.championId() == null) return RejectReason.MISSING_CHAMPION;
+        if (DraftConstants.NONE_CHAMPION_ID.equals(action.championId())) return null;
 
-        if (step.turn() != action.team()) {
-            throw new IllegalArgumentException("Not your turn");
-        }
+        String id = action.championId();
+        if (!champions.accepts(id)) return RejectReason.UNKNOWN_CHAMPION;
 
-        if (step.phase() != state.phase()) {
-            throw new IllegalArgumentException("Wrong phase");
-        }
-
-        boolean isNone = DraftConstants.NONE_CHAMPION_ID.equals(action.championId());
+        // no index: never seen (applyAction interns it), or past draft.champions.max; by name
+        int champion = champions.find(id);
+        boolean pick = step.phase() == DraftPhase.PICK;
 
         // ✅ Fearless lock check (PICKS ONLY)
-        if (!isNone && step.phase() == DraftPhase.PICK) {
-            List<String> locked = state.lockedChampionIds();
-            if (locked != null && locked.contains(action.championId())) {
-                throw new IllegalArgumentException("Champion is locked by Fearless Draft");
-            }
+        FearlessLocks locks = pick ? fearlessLocks(state) : null;
+        if (pick && (champion < 0 ? locks.lockedForThisGame(id) : locks.lockedForThisGame(champion))) {
+            return RejectReason.CHAMPION_LOCKED;
         }
+        boolean used = champion < 0
+                ? state.bans().contains(id) || state.bluePicks().contains(id) || state.redPicks().contains(id)
+                : usedChampions(state).contains(champion);
+        return used ? RejectReason.CHAMPION_USED : null;
+    }
+
+    /**
+     * The state after action, built in one go: the acting team's preview cleared, the next
+     * turn stamped with turnStartedAt/turnDurationSeconds (zeros once COMPLETE) and the
+     * given version. Only the list that changed is touched, and that is an append to a
+     * shared PickList, not a copy.
+     *
+     * @throws DraftRejectedException if {@link #validate} refuses it; callers on the hot path
+     *                                validate first
+     */
+    public DraftState applyAction(DraftState state, DraftAction action, long turnStartedAt, int turnDurationSeconds, long version) {
+        RejectReason rejected = validate(state, action);
+        if (rejected != null) throw new DraftRejectedException(rejected, rejected.message());
+
+        DraftFormat format = formats.get(state.format());
+        DraftStep step = format.step(state.firstPickTeam(), state.step());
+
+        boolean isNone = DraftConstants.NONE_CHAMPION_ID.equals(action.championId());
+        ChampionSet used = usedChampions(state);
+        FearlessLocks locks = fearlessLocks(state);
 
         if (!isNone) {
-            Set<String> used = new HashSet<>();
-            used.addAll(state.bans());
-            used.addAll(state.bluePicks());
-            used.addAll(state.redPicks());
+            int champion = champions.intern(action.championId());
+            if (champion >= 0) used = used.with(champion);
 
-            if (used.contains(action.championId())) {
-                throw new IllegalArgumentException("Champion already used");
+            // the series' lock index grows as picks land, so the next game is ready to go
+            if (step.phase() == DraftPhase.PICK && state.mode() == DraftMode.FEARLESS_SERIES) {
+                locks = locks.withPick(champion, action.championId());
             }
         }
 
-        List<String> blue = new ArrayList<>(state.bluePicks());
-        List<String> red = new ArrayList<>(state.redPicks());
-        List<String> bans = new ArrayList<>(state.bans());
-
-        Map<DraftTurn, String> previews = new EnumMap<>(DraftTurn.class);
-        previews.putAll(state.previews());
+        List<String> blue = state.bluePicks();
+        List<String> red = state.redPicks();
+        List<String> bans = state.bans();
 
+        int capacity = format.countOf(step.phase());
         if (step.phase() == DraftPhase.BAN) {
-            bans.add(action.championId());
+            bans = PickList.append(bans, action.championId(), capacity);
+        } else if (action.team() == DraftTurn.BLUE) {
+            blue = PickList.append(blue, action.championId(), capacity);
         } else {
-            if (action.team() == DraftTurn.BLUE) blue.add(action.championId());
-            else red.add(action.championId());
+            red = PickList.append(red, action.championId(), capacity);
         }
 
-        String lastPickedChampion = action.championId();
         int nextStep = state.step() + 1;
-
-        if (nextStep >= steps.length) {
-            return new DraftState(
-                    state.draftId(),
-                    state.blueTeamName(),
-                    state.redTeamName(),
-                    state.firstPickTeam(),
-
-                    DraftPhase.COMPLETE,
-                    nextStep,
-                    null,
-
-                    List.copyOf(blue),
-                    List.copyOf(red),
-                    List.copyOf(bans),
-
-                    previews,
-                    lastPickedChampion,
-
-                    0L,
-                    0,
-                    0L, // serverNow
-                    0L, // turnEndsAt
-
-                    state.blueReady(),
-                    state.redReady(),
-
-                    state.mode(),
-                    state.seriesId(),
-                    state.gameNumber(),
-                    state.lockedChampionIds()
-            );
-        }
-
-        DraftStep next = steps[nextStep];
+        boolean complete = nextStep >= format.size();
+        DraftStep next = complete ? null : format.step(state.firstPickTeam(), nextStep);
 
         return new DraftState(
                 state.draftId(),
@@ -152,21 +175,22 @@ public class DraftEngine {
                 state.redTeamName(),
                 state.firstPickTeam(),
 
-                next.phase(),
+                complete ? DraftPhase.COMPLETE : next.phase(),
                 nextStep,
-                next.turn(),
+                complete ? null : next.turn(),
 
-                List.copyOf(blue),
-                List.copyOf(red),
-                List.copyOf(bans),
+                blue,
+                red,
+                bans,
 
-                previews,
-                lastPickedChampion,
+                withoutPreview(state.previews(), action.team()),
+                action.championId(),    // lastPickedChampion
 
-                0L,
-                0,
+                complete ? 0L : turnStartedAt,
+                complete ? 0 : turnDurationSeconds,
                 0L, // serverNow
                 0L, // turnEndsAt
+                0L, // pausedAt (actions are refused while paused)
 
                 state.blueReady(),
                 state.redReady(),
@@ -174,7 +198,89 @@ public class DraftEngine {
                 state.mode(),
                 state.seriesId(),
                 state.gameNumber(),
-                state.lockedChampionIds()
+                state.lockedChampionIds(),
+                version,
+                state.format(),
+                used,
+                locks
         );
     }
+
+    // the map is only copied when the team actually had a preview up
+    private static Map<DraftTurn, String> withoutPreview(Map<DraftTurn, String> previews, DraftTurn team) {
+        if (!previews.containsKey(team)) return previews;
+        if (previews.size() == 1) return Map.of();
+
+        Map<DraftTurn, String> out = new EnumMap<>(DraftTurn.class);
+        out.putAll(previews);
+        out.remove(team);
+        return out;
+    }
+
+    public DraftState withChampionSets(DraftState s, long version) {
+        return new DraftState(
+                s.draftId(),
+                s.blueTeamName(),
+                s.redTeamName(),
+                s.firstPickTeam(),
+                s.phase(),
+                s.step(),
+                s.turn(),
+                s.bluePicks(),
+                s.redPicks(),
+                s.bans(),
+                s.previews(),
+                s.lastPickedChampion(),
+                s.turnStartedAt(),
+                s.turnDurationSeconds(),
+                s.serverNow(),
+                s.turnEndsAt(),
+                s.pausedAt(),
+                s.blueReady(),
+                s.redReady(),
+                s.mode(),
+                s.seriesId(),
+                s.gameNumber(),
+                s.lockedChampionIds(),
+                version,
+                s.format(),
+                usedChampions(s),
+                fearlessLocks(s)
+        );
+    }
+
+    /** Picked by anyone in the series so far (the state's game included). */
+    public boolean isLocked(DraftState state, String championId) {
+        int champion = champions.find(championId);
+        return champion >= 0 ? fearlessLocks(state).isLocked(champion) : fearlessLocks(state).isLocked(championId);
+    }
+
+    // Bitsets are built by createInitialState; rebuild them for states that didn't come from it (journal replay)
+    private ChampionSet usedChampions(DraftState state) {
+        if (state.usedChampions() != null) return state.usedChampions();
+        return champions.setOf(state.bans())
+                .union(champions.setOf(state.bluePicks()))
+                .union(champions.setOf(state.redPicks()));
+    }
+
+    /**
+     * The state's lock index, rebuilt from its id lists when it doesn't carry one (journal
+     * replay, demoted drafts, states read from another node). A rebuilt index has this
+     * game's picks in team order rather than pick order; only the set matters.
+     */
+    public FearlessLocks fearlessLocks(DraftState state) {
+        if (state.fearlessLocks() != null) return state.fearlessLocks();
+
+        List<String> carried = state.lockedChampionIds() == null ? List.of() : state.lockedChampionIds();
+        FearlessLocks locks = FearlessLocks.of(champions.setOf(carried), carried);
+        if (state.mode() != DraftMode.FEARLESS_SERIES) return locks;
+
+        for (List<String> picks : List.of(state.bluePicks(), state.redPicks())) {
+            for (String id : picks) {
+                // every pick, indexed or not: a lock is never dropped on a rebuild
+                if (!DraftConstants.NONE_CHAMPION_ID.equals(id)) locks = locks.withPick(champions.intern(id), id);
+            }
+        }
+        return locks;
+    }
 }
@@ -0,0 +1,84 @@
+package com.pete.fearless_draft;
+
+import java.util.List;
+
+/**
+ * A compiled draft order. The spec is written relative to the first-pick team
+ * ("B1" = first team bans, "P2" = second team picks) and compiled once into one
+ * step table per first-pick side, so the engine only does an array lookup per action.
+ */
+public final class DraftFormat {
+
+    private final String id;
+    private final String spec;
+    private final DraftStep[] blueFirst;
+    private final DraftStep[] redFirst;
+    private final int[] phaseCounts = new int[DraftPhase.values().length];
+
+    private DraftFormat(String id, String spec, DraftStep[] blueFirst, DraftStep[] redFirst) {
+        this.id = id;
+        this.spec = spec;
+        this.blueFirst = blueFirst;
+        this.redFirst = redFirst;
+        for (DraftStep s : blueFirst) phaseCounts[s.phase().ordinal()]++;
+    }
+
+    public static DraftFormat compile(String id, String spec) {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("Draft format id is required");
+        if (spec == null || spec.isBlank()) throw new IllegalArgumentException("Draft format " + id + " has no steps");
+
+        String[] tokens = spec.trim().split("[\\s,]+");
+        DraftStep[] blueFirst = new DraftStep[tokens.length];
+        DraftStep[] redFirst = new DraftStep[tokens.length];
+
+        for (int i = 0; i < tokens.length; i++) {
+            String t = tokens[i].toUpperCase();
+            if (t.length() != 2) throw invalidToken(id, tokens[i]);
+
+            DraftPhase phase = switch (t.charAt(0)) {
+                case 'B' -> DraftPhase.BAN;
+                case 'P' -> DraftPhase.PICK;
+                default -> throw invalidToken(id, tokens[i]);
+            };
+            boolean firstTeam = switch (t.charAt(1)) {
+                case '1' -> true;
+                case '2' -> false;
+                default -> throw invalidToken(id, tokens[i]);
+            };
+
+            blueFirst[i] = new DraftStep(phase, firstTeam ? DraftTurn.BLUE : DraftTurn.RED);
+            redFirst[i] = new DraftStep(phase, firstTeam ? DraftTurn.RED : DraftTurn.BLUE);
+        }
+
+        return new DraftFormat(id, spec.trim(), blueFirst, redFirst);
+    }
+
+    private static IllegalArgumentException invalidToken(String id, String token) {
+        return new IllegalArgumentException("Draft format " + id + ": invalid step '" + token + "' (expected B1, B2, P1 or P2)");
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String spec() {
+        return spec;
+    }
+
+    public int size() {
+        return blueFirst.length;
+    }
+
+    public DraftStep step(DraftTurn firstPickTeam, int index) {
+        return (firstPickTeam == DraftTurn.RED ? redFirst : blueFirst)[index];
+    }
+
+    /** Steps as seen with BLUE picking first, for clients rendering the order. */
+    public List<DraftStep> steps() {
+        return List.of(blueFirst);
+    }
+
+    public int countOf(DraftPhase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+}
@@ -0,0 +1,73 @@
+package com.pete.fearless_draft;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Known draft formats, compiled once at startup.
+ *
+ * Extra formats can be added without code changes:
+ *   draft.formats.BO_SCRIM=B1 B2 P1 P2 P2 P1 P1 P2 P2 P1 P1 P2
+ */
+@Component
+public class DraftFormatRegistry {
+
+    public static final String STANDARD = "STANDARD";
+
+    private final Map<String, DraftFormat> formats;
+
+    public DraftFormatRegistry(Environment env) {
+        Map<String, DraftFormat> m = new LinkedHashMap<>();
+
+        // Tournament: 3 bans each, 3 picks each, 2 bans each, 2 picks each
+        register(m, STANDARD,
+                "B1 B2 B1 B2 B1 B2 "   // Ban phase 1 (first, second alternating)
+              + "P1 P2 P2 P1 P1 P2 "   // Pick phase 1
+              + "B2 B1 B2 B1 "         // Ban phase 2 (second bans first)
+              + "P2 P1 P1 P2");        // Pick phase 2
+
+        // Solo queue style: all 10 bans up front, then the snake
+        register(m, "TEN_BANS",
+                "B1 B2 B1 B2 B1 B2 B1 B2 B1 B2 "
+              + "P1 P2 P2 P1 P1 P2 P2 P1 P1 P2");
+
+        // Scrim without bans
+        register(m, "NO_BANS",
+                "P1 P2 P2 P1 P1 P2 P2 P1 P1 P2");
+
+        Binder.get(env)
+                .bind("draft.formats", Bindable.mapOf(String.class, String.class))
+                .ifBound(custom -> custom.forEach((id, spec) -> register(m, id.toUpperCase(), spec)));
+
+        this.formats = Collections.unmodifiableMap(m);
+    }
+
+    private static void register(Map<String, DraftFormat> m, String id, String spec) {
+        m.put(id, DraftFormat.compile(id, spec));
+    }
+
+    /** Resolve a client-supplied format id; null/blank means STANDARD. */
+    public DraftFormat resolve(String id) {
+        if (id == null || id.isBlank()) return formats.get(STANDARD);
+
+        DraftFormat f = formats.get(id.toUpperCase());
+        if (f == null) throw new IllegalArgumentException("Unknown draft format: " + id);
+        return f;
+    }
+
+    /** Lookup for ids already stored in a DraftState. */
+    public DraftFormat get(String id) {
+        DraftFormat f = formats.get(id);
+        return f != null ? f : resolve(id);
+    }
+
+    public Map<String, DraftFormat> all() {
+        return formats;
+    }
+}
@@ -0,0 +1,102 @@
+package com.pete.fearless_draft;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Mailbox for a single draft (or series). Tasks run one at a time, in submission order,
+ * on whichever shared worker picks the lane up. Different lanes run in parallel.
+ *
+ * A lane leaves DraftLanes only once retired, and it retires only while nothing is queued
+ * or running on it; a submit that loses that race is refused and goes to a fresh lane.
+ * So there is never a second lane for a key while the first still has work.
+ */
+final class DraftLane implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftLane.class);
+
+    // how many tasks a lane may run before yielding its worker to other lanes
+    private static final int DRAIN_BUDGET = 64;
+
+    private static final ThreadLocal<DraftLane> CURRENT = new ThreadLocal<>();
+
+    private final String key;
+    private final Executor workers;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Consumer<DraftLane> onRetired;
+
+    private boolean retired;                    // guarded by this
+    private volatile boolean retireRequested;
+
+    DraftLane(String key, Executor workers, Consumer<DraftLane> onRetired) {
+        this.key = key;
+        this.workers = workers;
+        this.onRetired = onRetired;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /** @return false if the lane has retired: the task was not taken, submit it to a new lane */
+    boolean submit(Runnable task) {
+        synchronized (this) {
+            if (retired) return false;
+            mailbox.add(task);
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            workers.execute(this);
+        }
+        return true;
+    }
+
+    /** Retire now if idle, else as soon as the lane drains (e.g. when asked from one of its own tasks). */
+    void retire() {
+        retireRequested = true;
+        tryRetire();
+    }
+
+    private void tryRetire() {
+        synchronized (this) {
+            if (retired || !mailbox.isEmpty() || scheduled.get()) return;
+            retired = true;
+        }
+        onRetired.accept(this);
+    }
+
+    boolean isCurrentThreadInside() {
+        return CURRENT.get() == this;
+    }
+
+    @Override
+    public void run() {
+        CURRENT.set(this);
+        try {
+            Runnable task;
+            int budget = DRAIN_BUDGET;
+            while (budget-- > 0 && (task = mailbox.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Draft lane {} task failed: {}", key, e.getMessage());
+                }
+            }
+        } finally {
+            CURRENT.remove();
+            scheduled.set(false);
+            // a producer may have enqueued after our last poll but before the flag cleared
+            if (!mailbox.isEmpty()) {
+                if (scheduled.compareAndSet(false, true)) workers.execute(this);
+            } else if (retireRequested) {
+                tryRetire();
+            }
+        }
+    }
+}
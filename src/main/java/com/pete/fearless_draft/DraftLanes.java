@@ -0,0 +1,117 @@
+package com.pete.fearless_draft;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer execution lanes keyed by draftId (or seriesId).
+ *
+ * Every mutation of one draft goes through that draft's lane, so a click and a timer
+ * firing at the same moment can't overwrite each other. Lanes share one worker pool
+ * sized to the core count; there is no global lock.
+ *
+ * With spring.threads.virtual.enabled (and a Java 21+ runtime) each lane drain runs on a
+ * fresh virtual thread instead. Ordering doesn't depend on the executor: a lane is only
+ * ever scheduled once at a time.
+ */
+@Component
+public class DraftLanes implements DisposableBean {
+
+    private final Executor workers;
+    private final Map<String, DraftLane> lanes = new ConcurrentHashMap<>();
+
+    public DraftLanes(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // same rule as Boot: the flag is ignored below Java 21
+        this.workers = virtualThreads && Runtime.version().feature() >= 21
+                ? new VirtualThreadTaskExecutor("draft-lane-")
+                : Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(),
+                        new CustomizableThreadFactory("draft-lane-")
+                );
+    }
+
+    public boolean isVirtual() {
+        return workers instanceof VirtualThreadTaskExecutor;
+    }
+
+    /** Fire-and-forget: run the task on the key's lane. Failures are logged by the lane. */
+    public void execute(String key, Runnable task) {
+        submit(key, task);
+    }
+
+    /**
+     * Run the task on the key's lane and wait for its result.
+     * Runtime exceptions thrown by the task are rethrown unwrapped to the caller.
+     */
+    public <T> T call(String key, Supplier<T> task) {
+        DraftLane lane = lane(key);
+
+        // already on this lane (e.g. a lane task calling back into the manager) -> run inline
+        if (lane.isCurrentThreadInside()) return task.get();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(key, () -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /**
+     * Drop the key's lane once it has nothing queued or running. Tasks already queued (or
+     * submitted before then) still run on it, in order; a later submit gets a new lane.
+     * Safe to call from one of the lane's own tasks.
+     */
+    public void remove(String key) {
+        DraftLane lane = lanes.get(key);
+        if (lane != null) lane.retire();
+    }
+
+    int size() {
+        return lanes.size();
+    }
+
+    private void submit(String key, Runnable task) {
+        DraftLane lane = lane(key);
+        while (!lane.submit(task)) {
+            // retired between lookup and submit: its work is done, start the key afresh
+            lanes.remove(key, lane);
+            lane = lane(key);
+        }
+    }
+
+    private DraftLane lane(String key) {
+        DraftLane lane = lanes.get(key);
+        return lane != null ? lane : lanes.computeIfAbsent(key, k -> new DraftLane(k, workers, this::retired));
+    }
+
+    private void retired(DraftLane lane) {
+        lanes.remove(lane.key(), lane);
+    }
+
+    @Override
+    public void destroy() {
+        if (workers instanceof ExecutorService pool) pool.shutdown();
+    }
+}
@@ -1,10 +1,18 @@
 package com.pete.fearless_draft;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.pete.fearless_draft.analytics.DraftAnalytics;
+import com.pete.fearless_draft.cluster.ClusterCommand;
+import com.pete.fearless_draft.cluster.ClusterRouter;
+import com.pete.fearless_draft.journal.DraftJournal;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.type.TypeReference;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
@@ -12,20 +20,49 @@ public class DraftManager implements DraftTimeoutHandler {
 
     private final DraftService draftService;
     private final DraftTimerService timerService;
-    private final SimpMessagingTemplate brokerMessagingTemplate;
-
-    private final Map<String, DraftState> drafts = new ConcurrentHashMap<>();
-
-    private static final int TURN_DURATION_SECONDS = 30;
+    private final DraftBroadcaster broadcaster;
+    private final DraftLanes lanes;
+    private final DraftJournal journal;
+    private final DraftMetrics metrics;
+    private final HashedTimingWheel wheel;
+    private final DraftClock clock;
+    private final long previewWindowMs;
+    private final int turnSeconds;
+    private final DraftStore drafts;
+    private final ClusterRouter cluster;
+    private final DraftAnalytics analytics;
+
+    private final Map<String, PendingPreviews> pendingPreviews = new ConcurrentHashMap<>();
+    private final Set<String> unannounced = ConcurrentHashMap.newKeySet();
 
     public DraftManager(
             DraftService draftService,
             DraftTimerService timerService,
-            SimpMessagingTemplate brokerMessagingTemplate
+            DraftBroadcaster broadcaster,
+            DraftLanes lanes,
+            DraftJournal journal,
+            DraftMetrics metrics,
+            HashedTimingWheel wheel,
+            DraftClock clock,
+            @Value("${draft.preview.coalesce-window-ms:40}") long previewWindowMs,
+            @Value("${draft.turn-seconds:30}") int turnSeconds,
+            DraftStore drafts,
+            ClusterRouter cluster,
+            DraftAnalytics analytics
     ) {
         this.draftService = draftService;
         this.timerService = timerService;
-        this.brokerMessagingTemplate = brokerMessagingTemplate;
+        this.broadcaster = broadcaster;
+        this.lanes = lanes;
+        this.journal = journal;
+        this.metrics = metrics;
+        this.wheel = wheel;
+        this.clock = clock;
+        this.previewWindowMs = previewWindowMs;
+        this.turnSeconds = turnSeconds;
+        this.drafts = drafts;
+        this.cluster = cluster;
+        this.analytics = analytics;
     }
 
     private boolean isStarted(DraftState s) {
@@ -39,14 +76,15 @@ public class DraftManager implements DraftTimeoutHandler {
     /* ---------------- CREATE ---------------- */
 
     // Create SINGLE draft but DO NOT start timer
-    public DraftState createNewDraft(String blueTeamName, String redTeamName, DraftTurn firstPickTeam) {
-        String draftId = UUID.randomUUID().toString();
+    public DraftState createNewDraft(String blueTeamName, String redTeamName, DraftTurn firstPickTeam, String format) {
+        // an id this node owns, so the new draft lives where it was created
+        String draftId = cluster.newLocalId();
 
-        DraftState state = draftService.createDraft(draftId, blueTeamName, redTeamName, firstPickTeam);
-        drafts.put(draftId, state);
+        DraftState state = draftService.createDraft(draftId, blueTeamName, redTeamName, firstPickTeam, format);
+        store(state);
 
         // broadcast immediately so clients can lobby/ready-up
-        broadcast(state);
+        broadcaster.snapshot(state);
 
         return state;
     }
@@ -56,8 +94,54 @@ public class DraftManager implements DraftTimeoutHandler {
      * Does NOT start the timer.
      */
     public void registerDraft(DraftState state) {
-        drafts.put(state.draftId(), state);
-        broadcast(state);
+        store(state);
+        broadcaster.snapshot(state);
+    }
+
+    /**
+     * Register without the lobby broadcast (bulk provisioning: nobody is listening yet).
+     * The snapshot goes out when the first client subscribes, see {@link #announce}.
+     */
+    public void registerQuietly(DraftState state) {
+        store(state);
+        unannounced.add(state.draftId());
+    }
+
+    /** A client subscribed to the draft's topic: send the deferred lobby snapshot, if still owed. */
+    public void announce(String draftId) {
+        if (!cluster.owns(draftId)) {
+            cluster.forwardOnce(ClusterCommand.of(ClusterCommand.Op.DRAFT_ANNOUNCE, draftId));
+            return;
+        }
+        if (!unannounced.remove(draftId)) return;
+
+        lanes.execute(draftId, () -> {
+            DraftState state = drafts.draft(draftId);
+            if (state != null) broadcaster.snapshot(state);
+        });
+    }
+
+    /**
+     * Put back drafts recovered from the journal and re-arm their turn timers.
+     * A turn that ran out while we were down fires straight away. Each is owed a snapshot
+     * to its first subscriber: whatever was announced before went to sessions that are gone.
+     * <p>
+     * The journal is behind what was published (previews aren't journaled), so the journaled
+     * version may already have gone out with another body. Versions restart from the wall clock
+     * instead: a draft moves far less than one version a millisecond, so that is past anything
+     * the last run published, and a cached ETag or a patch cursor from before can't match.
+     */
+    public void restore(Collection<DraftState> recovered) {
+        long bootVersion = clock.now();
+        for (DraftState state : recovered) {
+            DraftState restored = draftService.rehydrate(state, Math.max(state.version() + 1, bootVersion));
+            drafts.putDraft(restored);
+            unannounced.add(restored.draftId());
+
+            if (restored.phase() != DraftPhase.COMPLETE && isStarted(restored)) {
+                timerService.schedule(restored);
+            }
+        }
     }
 
     /* ---------------- START ---------------- */
@@ -67,6 +151,13 @@ public class DraftManager implements DraftTimeoutHandler {
      * We still enforce ready-check so clients can't bypass it.
      */
     public DraftState startDraft(String draftId) {
+        if (!cluster.owns(draftId)) return cluster.request(ClusterCommand.of(ClusterCommand.Op.DRAFT_START, draftId), DraftState.class);
+
+        if (!exists(draftId)) throw new IllegalArgumentException("Draft not found: " + draftId);
+        return lanes.call(draftId, () -> doStartDraft(draftId));
+    }
+
+    private DraftState doStartDraft(String draftId) {
         DraftState current = get(draftId);
 
         if (current.phase() == DraftPhase.COMPLETE) return current;
@@ -77,29 +168,128 @@ public class DraftManager implements DraftTimeoutHandler {
             return current;
         }
 
-        DraftState started = stampTurnTiming(current);
+        DraftState started = stampTurnTiming(current, current.version() + 1);
 
-        drafts.put(draftId, started);
+        store(started);
         timerService.schedule(started);
-        broadcast(started);
+        broadcaster.publish(started, DraftPatch.started(started));
 
         return started;
     }
 
+    /* ---------------- PAUSE ---------------- */
+
+    /**
+     * Referee pause: the turn clock stops where it is. The turn timer is cancelled and
+     * actions are refused (PAUSED) until {@link #resumeDraft}; previews still go through.
+     * A no-op for a draft that isn't running or is already paused.
+     */
+    public DraftState pauseDraft(String draftId) {
+        if (!cluster.owns(draftId)) return cluster.request(ClusterCommand.of(ClusterCommand.Op.DRAFT_PAUSE, draftId), DraftState.class);
+
+        if (!exists(draftId)) throw new IllegalArgumentException("Draft not found: " + draftId);
+        return lanes.call(draftId, () -> doSetPaused(draftId, true));
+    }
+
+    /** The turn picks up with exactly the time it had left when paused. */
+    public DraftState resumeDraft(String draftId) {
+        if (!cluster.owns(draftId)) return cluster.request(ClusterCommand.of(ClusterCommand.Op.DRAFT_RESUME, draftId), DraftState.class);
+
+        if (!exists(draftId)) throw new IllegalArgumentException("Draft not found: " + draftId);
+        return lanes.call(draftId, () -> doSetPaused(draftId, false));
+    }
+
+    private DraftState doSetPaused(String draftId, boolean pause) {
+        DraftState current = flushPreviews(get(draftId));
+
+        if (current.phase() == DraftPhase.COMPLETE) return current;
+        if (!isStarted(current)) return current;
+        if ((current.pausedAt() > 0) == pause) return current;
+
+        long now = clock.now();
+        DraftState updated = pause
+                ? withClock(current, current.turnStartedAt(), now)
+                // moving the start on by the pause keeps the turn's duration (and wire format) as is
+                : withClock(current, current.turnStartedAt() + (now - current.pausedAt()), 0L);
+
+        store(updated);
+        timerService.schedule(updated);     // cancels while paused
+        broadcaster.publish(updated, DraftPatch.clock(updated));
+
+        return updated;
+    }
+
     /* ---------------- READ ---------------- */
 
+    /** Any node can read any draft; a remote one costs a round trip to its owner. */
     public DraftState get(String draftId) {
-        DraftState state = drafts.get(draftId);
+        if (!cluster.owns(draftId)) return cluster.request(ClusterCommand.of(ClusterCommand.Op.DRAFT_GET, draftId), DraftState.class);
+
+        DraftState state = drafts.draft(draftId);
         if (state == null) throw new IllegalArgumentException("Draft not found: " + draftId);
         return state;
     }
 
+    /** Local only: is the draft held on this node. */
+    public boolean exists(String draftId) {
+        return drafts.draft(draftId) != null;
+    }
+
+    /** The drafts this node owns. */
+    public Collection<DraftState> all() {
+        return drafts.drafts();
+    }
+
+    /* ---------------- RETENTION ---------------- */
+
+    /**
+     * Swap a finished draft for its compact form: no previews, no bitsets, no lane
+     * or patch history, and a new version. It stays readable (final board, series
+     * next-game) until evicted.
+     */
+    public void demote(String draftId) {
+        lanes.execute(draftId, () -> {
+            DraftState current = drafts.draft(draftId);
+            if (current == null || current.phase() != DraftPhase.COMPLETE) return;
+
+            drafts.putDraft(compact(current));
+            pendingPreviews.remove(draftId);
+            timerService.cancel(draftId);
+            broadcaster.forget(draftId);
+            lanes.remove(draftId);
+        });
+    }
+
+    /** Drop a draft entirely (expired or abandoned lobby). */
+    public void evict(String draftId) {
+        lanes.execute(draftId, () -> {
+            if (drafts.removeDraft(draftId) == null) return;
+
+            pendingPreviews.remove(draftId);
+            unannounced.remove(draftId);
+            timerService.cancel(draftId);
+            broadcaster.forget(draftId);
+            journal.draftRemoved(draftId);
+            lanes.remove(draftId);
+        });
+    }
+
     /* ---------------- READY CHECK ---------------- */
 
     public void setReady(String draftId, DraftTurn team, boolean ready) {
-        DraftState current = get(draftId);
+        if (!cluster.owns(draftId)) {
+            cluster.forward(ClusterCommand.ready(draftId, team, ready));
+            return;
+        }
 
-        if (current.phase() == DraftPhase.COMPLETE) return;
+        if (!exists(draftId)) return;
+        lanes.execute(draftId, () -> doSetReady(draftId, team, ready));
+    }
+
+    private void doSetReady(String draftId, DraftTurn team, boolean ready) {
+        DraftState current = drafts.draft(draftId);
+
+        if (current == null || current.phase() == DraftPhase.COMPLETE) return;
 
         // once started, ignore ready toggles
         if (isStarted(current)) return;
@@ -127,6 +317,7 @@ public class DraftManager implements DraftTimeoutHandler {
                 current.turnDurationSeconds(),
                 0L,   // serverNow - filled at broadcast time
                 0L,   // turnEndsAt - filled at broadcast time
+                current.pausedAt(),
                 blueReady,
                 redReady,
 
@@ -134,86 +325,228 @@ public class DraftManager implements DraftTimeoutHandler {
                 current.mode(),
                 current.seriesId(),
                 current.gameNumber(),
-                current.lockedChampionIds()
+                current.lockedChampionIds(),
+                current.version() + 1,
+                current.format(),
+                current.usedChampions(),
+                current.fearlessLocks()
         );
 
         // if both ready -> auto start
         if (blueReady && redReady) {
-            DraftState started = stampTurnTiming(updated);
-            drafts.put(draftId, started);
+            DraftState started = stampTurnTiming(updated, updated.version());
+            store(started);
             timerService.schedule(started);
-            broadcast(started);
+            broadcaster.publish(started, DraftPatch.started(started));
             return;
         }
 
-        drafts.put(draftId, updated);
-        broadcast(updated);
+        store(updated);
+        broadcaster.publish(updated, DraftPatch.ready(updated));
     }
 
     /* ---------------- MUTATIONS ---------------- */
 
+    // All mutations are queued on the draft's lane, so they apply one at a time and in arrival order.
+    // Only a draft held here gets a lane: an id a client makes up is refused before queueing.
+
     public void applyAction(String draftId, DraftAction action) {
-        DraftState current = get(draftId);
-        if (current.phase() == DraftPhase.COMPLETE) return;
+        applyAction(draftId, action, System.nanoTime(), null);
+    }
 
-        if (!isStarted(current)) {
+    public void applyAction(String draftId, DraftAction action, long receivedAtNanos, String sessionId) {
+        applyAction(draftId, action, receivedAtNanos, sessionId, null);
+    }
+
+    /**
+     * Refusals never throw: they are counted, and sent to sessionId as a DraftRejection.
+     * A stale action (expectedStep already passed) is only counted.
+     *
+     * @param receivedAtNanos System.nanoTime() when the action came in, for latency metrics
+     * @param sessionId       the STOMP session that sent it, or null
+     * @param origin          the node sessionId is on, if not this one (a forwarded action)
+     */
+    public void applyAction(String draftId, DraftAction action, long receivedAtNanos, String sessionId, String origin) {
+        if (!cluster.owns(draftId)) {
+            // the owner counts a refusal and sends it back here for the session
+            cluster.forward(ClusterCommand.action(draftId, action, sessionId, sessionId == null ? null : cluster.nodeId()));
             return;
         }
 
-        DraftState updated = draftService.applyAction(current, action);
-        updated = stampTurnTiming(updated);
+        if (!exists(draftId)) {
+            refuse(action, RejectReason.DRAFT_NOT_FOUND, null, sessionId, origin);
+            return;
+        }
+        lanes.execute(draftId, () -> doApplyAction(draftId, action, receivedAtNanos, sessionId, origin));
+    }
+
+    private void doApplyAction(String draftId, DraftAction action, long receivedAtNanos, String sessionId, String origin) {
+        DraftState current = flushPreviews(drafts.draft(draftId));
 
-        drafts.put(draftId, updated);
+        RejectReason rejected = check(current, action);
+        if (rejected != null) {
+            refuse(action, rejected, current, sessionId, origin);
+            return;
+        }
+
+        DraftState updated = draftService.applyAction(current, action, clock.now(), turnSeconds, current.version() + 1);
+        store(updated);
         timerService.schedule(updated);
-        broadcast(updated);
+        broadcaster.publish(updated, DraftPatch.action(current, updated, action));
+        metrics.actionApplied(receivedAtNanos);
+        if (updated.phase() == DraftPhase.COMPLETE) analytics.draftCompleted(updated);
+    }
+
+    private void refuse(DraftAction action, RejectReason reason, DraftState current, String sessionId, String origin) {
+        metrics.rejected(reason);
+        if (sessionId == null || reason == RejectReason.STALE_STEP) return;
+
+        DraftRejection rejection = DraftRejection.of(action, reason, current);
+        if (origin == null || origin.equals(cluster.nodeId())) broadcaster.reject(sessionId, rejection);
+        else cluster.sendTo(origin, ClusterCommand.rejected(sessionId, rejection));
+    }
+
+    // Lane only. Why action can't be applied to current (null if the draft isn't held here), or null if it can.
+    private RejectReason check(DraftState current, DraftAction action) {
+        if (current == null) return RejectReason.DRAFT_NOT_FOUND;
+
+        // before anything else: a double click after the last step is stale, not "complete"
+        if (action.isStaleFor(current)) return RejectReason.STALE_STEP;
+        if (current.phase() == DraftPhase.COMPLETE) return RejectReason.DRAFT_COMPLETE;
+        if (!isStarted(current)) return RejectReason.NOT_STARTED;
+        if (current.pausedAt() > 0) return RejectReason.PAUSED;
+        return draftService.validate(current, action);
     }
 
+    /**
+     * Previews are coalesced: the latest value per team is parked and applied once per
+     * draft.preview.coalesce-window-ms (0 = apply every preview immediately).
+     * Anything else on the lane (action, timeout) flushes them first, so order is kept.
+     */
     public void setPreview(String draftId, DraftTurn team, String championId) {
-        DraftState current = get(draftId);
+        if (!cluster.owns(draftId)) {
+            cluster.forward(ClusterCommand.preview(draftId, team, championId));
+            return;
+        }
+
+        // nothing to park a preview on (and no entry made for whatever id a client sends)
+        if (drafts.draft(draftId) == null) return;
+
+        PendingPreviews pending = pendingPreviews.computeIfAbsent(draftId, id -> new PendingPreviews());
+        pending.offer(team, championId);
 
-        if (!isStarted(current)) {
+        if (previewWindowMs <= 0) {
+            lanes.execute(draftId, () -> flushPreviews(drafts.draft(draftId)));
             return;
         }
 
-        DraftState updated = draftService.setPreview(current, team, championId);
-        drafts.put(draftId, updated);
-        broadcast(updated);
+        if (pending.flushScheduled.compareAndSet(false, true)) {
+            wheel.newTimeout(() -> {
+                // evicted within the window: its lane is gone and should stay gone
+                if (!exists(draftId)) return;
+                lanes.execute(draftId, () -> {
+                    pending.flushScheduled.set(false);
+                    flushPreviews(drafts.draft(draftId));
+                });
+            }, previewWindowMs);
+        }
+    }
+
+    // Lane only. Applies parked previews (one copy, one broadcast) and returns the current state.
+    private DraftState flushPreviews(DraftState current) {
+        if (current == null) return null;
+
+        PendingPreviews pending = pendingPreviews.get(current.draftId());
+        if (pending == null) return current;
+
+        Map<DraftTurn, String> changes = pending.drain();
+        if (changes == null || !isStarted(current)) return current;
+
+        // not journaled: a hover isn't worth a disk write, and the next pick or ban carries it anyway
+        DraftState updated = draftService.setPreviews(current, changes);
+        drafts.putDraft(updated);
+        broadcaster.publish(updated, DraftPatch.preview(updated));
+        return updated;
     }
 
     /* ---------------- TIMEOUT ---------------- */
 
     @Override
     public void onTurnTimeout(String draftId, DraftPhase expectedPhase, int expectedStep, long expectedStartedAt) {
-        DraftState current = drafts.get(draftId);
+        // hop off the timer thread onto the draft's lane (unless it was evicted since)
+        if (!exists(draftId)) return;
+        lanes.execute(draftId, () -> doTurnTimeout(draftId, expectedPhase, expectedStep, expectedStartedAt));
+    }
+
+    private void doTurnTimeout(String draftId, DraftPhase expectedPhase, int expectedStep, long expectedStartedAt) {
+        // a preview still parked in the coalescing window is what the player meant to lock in
+        DraftState current = flushPreviews(drafts.draft(draftId));
         if (current == null) return;
 
         if (current.phase() != expectedPhase) return;
         if (current.step() != expectedStep) return;
         if (current.turnStartedAt() != expectedStartedAt) return;
         if (current.phase() == DraftPhase.COMPLETE) return;
+        if (current.pausedAt() > 0) return;
 
+        metrics.timeoutFired(expectedStartedAt + current.turnDurationSeconds() * 1000L, clock.now());
+
+        // the hovered champion may have been taken or locked since it was hovered
         DraftAction auto = buildAutoAction(current);
+        if (auto != null && draftService.validate(current, auto) != null) auto = null;
 
         DraftAction actionToApply = (auto != null)
                 ? auto
                 : new DraftAction(draftId, current.turn(), DraftConstants.NONE_CHAMPION_ID);
 
-        DraftState next = draftService.applyAction(current, actionToApply);
-        DraftState updated = stampTurnTiming(next);
+        DraftState updated = draftService.applyAction(current, actionToApply, clock.now(), turnSeconds, current.version() + 1);
 
-        drafts.put(draftId, updated);
+        store(updated);
         timerService.schedule(updated);
-        broadcast(updated);
+        broadcaster.publish(updated, DraftPatch.action(current, updated, actionToApply));
+        if (updated.phase() == DraftPhase.COMPLETE) analytics.draftCompleted(updated);
     }
 
     /* ---------------- HELPERS ---------------- */
 
-    private DraftState withServerTime(DraftState s) {
-        long now = System.currentTimeMillis();
-        long endsAt = (s.turnStartedAt() > 0 && s.turnDurationSeconds() > 0)
-                ? s.turnStartedAt() + (s.turnDurationSeconds() * 1000L)
-                : 0L;
+    private DraftState compact(DraftState s) {
+        return new DraftState(
+                s.draftId(),
+                s.blueTeamName(),
+                s.redTeamName(),
+                s.firstPickTeam(),
+                s.phase(),
+                s.step(),
+                s.turn(),
+                s.bluePicks(),
+                s.redPicks(),
+                s.bans(),
+                Map.of(),
+                s.lastPickedChampion(),
+                0L,
+                0,
+                0L,
+                0L,
+                0L,
+                s.blueReady(),
+                s.redReady(),
+                s.mode(),
+                s.seriesId(),
+                s.gameNumber(),
+                s.lockedChampionIds(),
+                s.version() + 1,   // the body changed, so a cached ETag must not match it
+                s.format(),
+                null,   // bitsets are rebuilt by DraftEngine if ever needed again
+                null
+        );
+    }
+
+    private void store(DraftState state) {
+        drafts.putDraft(state);
+        journal.draftChanged(state);
+    }
 
+    private DraftState withClock(DraftState s, long turnStartedAt, long pausedAt) {
         return new DraftState(
                 s.draftId(),
                 s.blueTeamName(),
@@ -227,26 +560,27 @@ public class DraftManager implements DraftTimeoutHandler {
                 s.bans(),
                 s.previews(),
                 s.lastPickedChampion(),
-                s.turnStartedAt(),
+                turnStartedAt,
                 s.turnDurationSeconds(),
-                now,
-                endsAt,
+                0L,   // serverNow
+                0L,   // turnEndsAt
+                pausedAt,
                 s.blueReady(),
                 s.redReady(),
                 s.mode(),
                 s.seriesId(),
                 s.gameNumber(),
-                s.lockedChampionIds()
+                s.lockedChampionIds(),
+                s.version() + 1,
+                s.format(),
+                s.usedChampions(),
+                s.fearlessLocks()
         );
     }
 
-    private void broadcast(DraftState state) {
-        brokerMessagingTemplate.convertAndSend("/topic/draft/" + state.draftId(), withServerTime(state));
-    }
-
-    private DraftState stampTurnTiming(DraftState state) {
+    private DraftState stampTurnTiming(DraftState state, long version) {
         if (state.phase() == DraftPhase.COMPLETE) {
-            // Stored state can be zeros; broadcast() will enrich serverNow accurately
+            // Stored state can be zeros; the broadcaster will enrich serverNow accurately
             return new DraftState(
                     state.draftId(),
                     state.blueTeamName(),
@@ -264,17 +598,22 @@ public class DraftManager implements DraftTimeoutHandler {
                     0,
                     0L,   // serverNow
                     0L,   // turnEndsAt
+                    0L,   // pausedAt
                     state.blueReady(),
                     state.redReady(),
                     state.mode(),
                     state.seriesId(),
                     state.gameNumber(),
-                    state.lockedChampionIds()
+                    state.lockedChampionIds(),
+                    version,
+                    state.format(),
+                    state.usedChampions(),
+                    state.fearlessLocks()
             );
         }
 
-        long now = System.currentTimeMillis();
-        long endsAt = now + (TURN_DURATION_SECONDS * 1000L);
+        long now = clock.now();
+        long endsAt = now + (turnSeconds * 1000L);
 
         // Store the true turnStartedAt/duration; serverNow/turnEndsAt may be filled at broadcast-time too
         return new DraftState(
@@ -291,15 +630,20 @@ public class DraftManager implements DraftTimeoutHandler {
                 state.previews(),
                 state.lastPickedChampion(),
                 now,
-                TURN_DURATION_SECONDS,
+                turnSeconds,
                 0L,   // serverNow
                 0L,   // turnEndsAt
+                0L,   // pausedAt
                 state.blueReady(),
                 state.redReady(),
                 state.mode(),
                 state.seriesId(),
                 state.gameNumber(),
-                state.lockedChampionIds()
+                state.lockedChampionIds(),
+                version,
+                state.format(),
+                state.usedChampions(),
+                state.fearlessLocks()
         );
     }
 
@@ -309,8 +653,23 @@ public class DraftManager implements DraftTimeoutHandler {
         return new DraftAction(state.draftId(), state.turn(), preview);
     }
 
-    public DraftState getForClient(String draftId) {
-        return withServerTime(get(draftId));
+    /** Client JSON for a state from {@link #get}; cached per state, see DraftBroadcaster. */
+    public byte[] toClientJson(DraftState state) {
+        // only drafts owned here are cached; a remote one was just fetched and is encoded once
+        if (!cluster.owns(state.draftId())) return broadcaster.toJsonUncached(state, clock.now());
+        return broadcaster.toJson(state, clock.now());
+    }
+
+    /**
+     * Patches after sinceVersion for a reconnecting client.
+     * @return null if the gap is too large and the client should take a full snapshot instead
+     */
+    public List<DraftPatch> getPatchesSince(String draftId, long sinceVersion) {
+        if (!cluster.owns(draftId)) {
+            return cluster.request(ClusterCommand.patchesSince(draftId, sinceVersion), new TypeReference<List<DraftPatch>>() {});
+        }
+
+        return broadcaster.patchesSince(get(draftId), sinceVersion);
     }
 
 }
@@ -0,0 +1,110 @@
+package com.pete.fearless_draft;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Compact change event for one draft. Clients apply patches in version order on top of a
+ * snapshot from GET /draft/{id}; a gap in versions means fetch /draft/{id}/patches?since=N
+ * (or a fresh snapshot if that returns 410).
+ *
+ * ACTION_APPLIED: append championId to bans when actedPhase == BAN, else to the team's picks,
+ * clear that team's preview, then take phase/step/turn/timing from the patch.
+ *
+ * CLOCK_PAUSED / CLOCK_RESUMED: take turnStartedAt/turnEndsAt/pausedAt from the patch.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DraftPatch(
+        String draftId,
+        long version,
+        DraftPatchType type,
+
+        DraftTurn team,
+        String championId,
+        DraftPhase actedPhase,
+
+        Map<DraftTurn, String> previews,
+
+        DraftPhase phase,
+        Integer step,
+        DraftTurn turn,
+
+        Boolean blueReady,
+        Boolean redReady,
+
+        Long turnStartedAt,
+        Long turnEndsAt,
+        Long pausedAt,
+        Long serverNow
+) {
+
+    public static DraftPatch preview(DraftState next) {
+        return new DraftPatch(
+                next.draftId(), next.version(), DraftPatchType.PREVIEW_CHANGED,
+                null, null, null,
+                next.previews(),
+                null, null, null,
+                null, null,
+                null, null, null, null
+        );
+    }
+
+    public static DraftPatch ready(DraftState next) {
+        return new DraftPatch(
+                next.draftId(), next.version(), DraftPatchType.READY_CHANGED,
+                null, null, null,
+                null,
+                null, null, null,
+                next.blueReady(), next.redReady(),
+                null, null, null, null
+        );
+    }
+
+    public static DraftPatch started(DraftState next) {
+        return new DraftPatch(
+                next.draftId(), next.version(), DraftPatchType.TURN_STARTED,
+                null, null, null,
+                null,
+                next.phase(), next.step(), next.turn(),
+                next.blueReady(), next.redReady(),
+                next.turnStartedAt(), null, null, null
+        );
+    }
+
+    public static DraftPatch action(DraftState prev, DraftState next, DraftAction action) {
+        return new DraftPatch(
+                next.draftId(), next.version(), DraftPatchType.ACTION_APPLIED,
+                action.team(), action.championId(), prev.phase(),
+                null,
+                next.phase(), next.step(), next.turn(),
+                null, null,
+                next.turnStartedAt(), null, null, null
+        );
+    }
+
+    /** CLOCK_PAUSED / CLOCK_RESUMED; pausedAt is 0 once resumed. */
+    public static DraftPatch clock(DraftState next) {
+        return new DraftPatch(
+                next.draftId(), next.version(),
+                next.pausedAt() > 0 ? DraftPatchType.CLOCK_PAUSED : DraftPatchType.CLOCK_RESUMED,
+                null, null, null,
+                null,
+                null, null, null,
+                null, null,
+                next.turnStartedAt(), null, next.pausedAt(), null
+        );
+    }
+
+    // timing is filled at send time, same as DraftState.serverNow / turnEndsAt
+    DraftPatch withServerTime(long now, long turnEndsAt) {
+        return new DraftPatch(
+                draftId, version, type,
+                team, championId, actedPhase,
+                previews,
+                phase, step, turn,
+                blueReady, redReady,
+                turnStartedAt, turnStartedAt == null ? null : turnEndsAt, pausedAt, now
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.pete.fearless_draft;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring of the most recent patches for one draft, so a reconnecting client can
+ * catch up from a version instead of refetching the whole state.
+ * Appended from the draft's lane, read from REST threads.
+ */
+final class DraftPatchLog {
+
+    private final DraftPatch[] ring;
+    private long newestVersion = -1;
+
+    DraftPatchLog(int capacity) {
+        this.ring = new DraftPatch[capacity];
+    }
+
+    synchronized void append(DraftPatch patch) {
+        ring[(int) (patch.version() % ring.length)] = patch;
+        newestVersion = patch.version();
+    }
+
+    /**
+     * Patches with version > sinceVersion, oldest first.
+     * @return null if the ring no longer reaches back that far (client must take a snapshot)
+     */
+    synchronized List<DraftPatch> since(long sinceVersion) {
+        if (sinceVersion >= newestVersion) return List.of();
+
+        long oldestWanted = sinceVersion + 1;
+        if (newestVersion - oldestWanted >= ring.length) return null;
+
+        List<DraftPatch> out = new ArrayList<>((int) (newestVersion - sinceVersion));
+        for (long v = oldestWanted; v <= newestVersion; v++) {
+            DraftPatch p = ring[(int) (v % ring.length)];
+            if (p == null || p.version() != v) return null;
+            out.add(p);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,10 @@
+package com.pete.fearless_draft;
+
+public enum DraftPatchType {
+    PREVIEW_CHANGED,   // previews (both teams, replaces the client's map)
+    READY_CHANGED,     // blueReady, redReady
+    TURN_STARTED,      // phase/step/turn + timing (draft clock started)
+    ACTION_APPLIED,    // team, championId appended to bans (BAN) or team picks (PICK), then turn advanced
+    CLOCK_PAUSED,      // pausedAt: the turn clock stands still, turnEndsAt - pausedAt is left
+    CLOCK_RESUMED      // turnStartedAt/turnEndsAt moved on by the pause, pausedAt = 0
+}
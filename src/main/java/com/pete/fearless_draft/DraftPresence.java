@@ -0,0 +1,287 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.cluster.ClusterCommand;
+import com.pete.fearless_draft.cluster.ClusterRouter;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Who is still at the table: live STOMP subscriptions to a draft's player topics
+ * (/topic/draft/{id}[/patches], CBOR copies included; spectators don't count), fed by
+ * DraftPresenceInterceptor.
+ *
+ * - A draft nobody subscribes to gets no broadcasts: nothing is encoded or handed to the
+ *   broker (the patch log still fills, GET /draft still works). The CBOR copy is only
+ *   encoded while someone subscribes to it.
+ * - A running draft that had players and lost them all is paused after draft.presence.grace,
+ *   so its timer stops auto-picking NONE into an empty room, and resumed when one comes back.
+ *   Nothing is ever evicted here: a series game may be picked up hours later. Drafts left
+ *   paused are DraftRetentionService's (paused-idle-ttl), like ones nobody ever subscribed to.
+ *
+ * With draft.presence.enabled=false nothing is skipped or paused and no sweeper runs.
+ *
+ * In cluster mode each node counts its own sessions and tells a draft's owner when it
+ * starts or stops watching it, so the owner sees every node's players, and knows which
+ * nodes its player topics need to be relayed to (see ClusterBrokerRelay).
+ */
+@Service
+public class DraftPresence implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftPresence.class);
+
+    private final DraftManager draftManager;
+    private final ClusterRouter cluster;
+    private final DraftMetrics metrics;
+    private final DraftClock clock;
+    private final boolean enabled;
+    private final long graceMs;
+
+    // draftId -> subscriptions on this node, and (owner only) other nodes watching it
+    private final Map<String, Watchers> watchers = new ConcurrentHashMap<>();
+    private final Set<String> cborWatched = ConcurrentHashMap.newKeySet();
+
+    // owned drafts that had players and have none now -> since when
+    private final Map<String, Long> emptySince = new ConcurrentHashMap<>();
+    private final Set<String> autoPaused = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService sweeper;     // null when disabled
+
+    // local counts every subscription, localCbor the CBOR ones among them; remoteNodes is
+    // read off the lock by the relay, hence concurrent
+    private static final class Watchers {
+        int local;
+        final Set<String> remoteNodes = ConcurrentHashMap.newKeySet();
+        int localCbor;
+        int remoteCborNodes;
+
+        boolean any() {
+            return local > 0 || !remoteNodes.isEmpty();
+        }
+
+        boolean cbor() {
+            return localCbor + remoteCborNodes > 0;
+        }
+    }
+
+    private static final int FLIPPED_ANY = 1;
+    private static final int FLIPPED_CBOR = 2;
+
+    public DraftPresence(
+            @Lazy DraftManager draftManager,
+            ClusterRouter cluster,
+            DraftMetrics metrics,
+            DraftClock clock,
+            @Value("${draft.presence.enabled:true}") boolean enabled,
+            @Value("${draft.presence.grace:30s}") Duration grace,
+            @Value("${draft.presence.sweep-interval:5s}") Duration sweepInterval
+    ) {
+        this.draftManager = draftManager;
+        this.cluster = cluster;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.graceMs = grace.toMillis();
+
+        if (enabled) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("draft-presence-"));
+            this.sweeper.scheduleWithFixedDelay(this::sweepSafely,
+                    sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    /* ---------------- SUBSCRIPTIONS ---------------- */
+
+    /** A JSON session on this node subscribed to one of the draft's player topics. */
+    public void watch(String draftId) {
+        watch(draftId, WireFormat.JSON);
+    }
+
+    /** A session on this node subscribed to one of the draft's player topics in format. */
+    public void watch(String draftId, WireFormat format) {
+        boolean cbor = format == WireFormat.CBOR;
+        int flipped = update(draftId, w -> {
+            w.local++;
+            if (cbor) w.localCbor++;
+        });
+        if (cluster.owns(draftId)) return;
+
+        // watched before cbor-watched: the owner counts CBOR nodes among the watching ones
+        if ((flipped & FLIPPED_ANY) != 0) cluster.forward(ClusterCommand.fromNode(ClusterCommand.Op.DRAFT_WATCHED, draftId, cluster.nodeId()));
+        if ((flipped & FLIPPED_CBOR) != 0) cluster.forward(ClusterCommand.of(ClusterCommand.Op.DRAFT_CBOR_WATCHED, draftId));
+    }
+
+    public void unwatch(String draftId) {
+        unwatch(draftId, WireFormat.JSON);
+    }
+
+    /** One of those subscriptions ended (UNSUBSCRIBE or the session went away). */
+    public void unwatch(String draftId, WireFormat format) {
+        boolean cbor = format == WireFormat.CBOR;
+        int flipped = update(draftId, w -> {
+            w.local--;
+            if (cbor) w.localCbor--;
+        });
+        if (cluster.owns(draftId)) return;
+
+        if ((flipped & FLIPPED_CBOR) != 0) cluster.forward(ClusterCommand.of(ClusterCommand.Op.DRAFT_CBOR_UNWATCHED, draftId));
+        if ((flipped & FLIPPED_ANY) != 0) cluster.forward(ClusterCommand.fromNode(ClusterCommand.Op.DRAFT_UNWATCHED, draftId, cluster.nodeId()));
+    }
+
+    /** Owner side: node started (or stopped) having subscribers for the draft. */
+    public void remoteWatch(String draftId, String node, boolean watching) {
+        update(draftId, w -> {
+            if (watching) w.remoteNodes.add(node);
+            else w.remoteNodes.remove(node);
+        });
+    }
+
+    /** Owner side: the same, for that node's CBOR subscribers. */
+    public void remoteWatchCbor(String draftId, boolean watching) {
+        update(draftId, w -> w.remoteCborNodes += watching ? 1 : -1);
+    }
+
+    // FLIPPED_ANY / FLIPPED_CBOR if the change took the draft from unwatched to watched or back
+    private int update(String draftId, Consumer<Watchers> change) {
+        int[] flipped = new int[1];
+        watchers.compute(draftId, (id, w) -> {
+            if (w == null) w = new Watchers();
+            boolean before = w.any();
+            boolean cborBefore = w.cbor();
+            change.accept(w);
+            w.local = Math.max(0, w.local);
+            w.localCbor = Math.max(0, w.localCbor);
+            w.remoteCborNodes = Math.max(0, w.remoteCborNodes);
+            if (before != w.any()) flipped[0] |= FLIPPED_ANY;
+            if (cborBefore != w.cbor()) {
+                flipped[0] |= FLIPPED_CBOR;
+                if (w.cbor()) cborWatched.add(id);
+                else cborWatched.remove(id);
+            }
+
+            if ((flipped[0] & FLIPPED_ANY) != 0 && cluster.owns(id)) {
+                if (w.any()) rejoined(id);
+                else emptySince.put(id, clock.now());
+            }
+            return w.any() ? w : null;
+        });
+        return flipped[0];
+    }
+
+    private void rejoined(String draftId) {
+        emptySince.remove(draftId);
+        if (enabled && autoPaused.remove(draftId)) {
+            // off the caller's (inbound channel) thread: resume waits for the draft's lane
+            sweeper.execute(() -> {
+                draftManager.resumeDraft(draftId);
+                metrics.draftAutoResumed();
+            });
+        }
+    }
+
+    /**
+     * Lane side: true if the draft's player topics have no subscribers anywhere, so the
+     * broadcast can be skipped (and is counted as skipped).
+     */
+    public boolean skipBroadcast(String draftId) {
+        if (!enabled || watchers.containsKey(draftId)) return false;
+        metrics.broadcastSkipped();
+        return true;
+    }
+
+    /**
+     * True if someone subscribes to the draft's CBOR topics (always, with presence off), so
+     * the CBOR copy is worth encoding.
+     */
+    public boolean cborWatched(String draftId) {
+        return !enabled || cborWatched.contains(draftId);
+    }
+
+    /** Owner side: the other nodes with subscribers to the draft's player topics. */
+    public Set<String> watchingNodes(String draftId) {
+        Watchers w = watchers.get(draftId);
+        return w == null ? Set.of() : w.remoteNodes;
+    }
+
+    /**
+     * The draft a player topic is for: /topic/draft/{id}[/patches] or its CBOR copy under
+     * /topic/cbor/draft/. Null for any other destination.
+     */
+    public static String playerTopicDraftId(String destination) {
+        if (destination == null) return null;
+
+        String rest;
+        if (destination.startsWith("/topic/draft/")) rest = destination.substring("/topic/draft/".length());
+        else if (destination.startsWith("/topic/cbor/draft/")) rest = destination.substring("/topic/cbor/draft/".length());
+        else return null;
+
+        int end = rest.indexOf('/');
+        String id = end < 0 ? rest : rest.substring(0, end);
+        return id.isEmpty() ? null : id;
+    }
+
+    /** Drafts with at least one subscriber here (or, for owned drafts, on any node). */
+    public int watchedDrafts() {
+        return watchers.size();
+    }
+
+    public int abandonedDrafts() {
+        return emptySince.size();
+    }
+
+    /* ---------------- SWEEP ---------------- */
+
+    private void sweepSafely() {
+        try {
+            sweep(clock.now());
+        } catch (RuntimeException e) {
+            log.warn("Draft presence sweep failed", e);
+        }
+    }
+
+    void sweep(long now) {
+        for (Map.Entry<String, Long> e : emptySince.entrySet()) {
+            String draftId = e.getKey();
+            long emptyMs = now - e.getValue();
+
+            DraftState d = draftManager.exists(draftId) ? draftManager.get(draftId) : null;
+            if (d == null || d.phase() == DraftPhase.COMPLETE) {
+                // gone, or finished: retention takes it from here
+                forget(draftId);
+                continue;
+            }
+
+            if (emptyMs >= graceMs && d.turnStartedAt() > 0 && d.pausedAt() == 0 && !autoPaused.contains(draftId)) {
+                autoPaused.add(draftId);
+                draftManager.pauseDraft(draftId);
+                metrics.draftAutoPaused();
+            }
+        }
+    }
+
+    private void forget(String draftId) {
+        emptySince.remove(draftId);
+        autoPaused.remove(draftId);
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) sweeper.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package com.pete.fearless_draft;
+
+/** An action the rules don't allow. Still an IllegalArgumentException for existing callers. */
+public class DraftRejectedException extends IllegalArgumentException {
+
+    private final RejectReason reason;
+
+    public DraftRejectedException(RejectReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public RejectReason reason() {
+        return reason;
+    }
+}
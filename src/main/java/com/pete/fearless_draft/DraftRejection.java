@@ -0,0 +1,34 @@
+package com.pete.fearless_draft;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Why a message from this session was refused, sent to that session only on
+ * /user/queue/rejections. The rest of the draft never sees it.
+ *
+ * step is the draft's current step, so the client can tell a late click from a bad one.
+ * Stale duplicates (RejectReason.STALE_STEP) get no rejection: the broadcast that moved
+ * the draft on already answered them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DraftRejection(
+        String draftId,
+        RejectReason reason,
+        String message,
+        DraftTurn team,
+        String championId,
+        Integer step
+) {
+    public static DraftRejection of(DraftAction action, RejectReason reason, DraftState current) {
+        return new DraftRejection(action.draftId(), reason, reason.message(), action.team(), action.championId(),
+                current == null ? null : current.step());
+    }
+
+    public static DraftRejection of(RejectReason reason) {
+        return of(null, reason);
+    }
+
+    public static DraftRejection of(String draftId, RejectReason reason) {
+        return new DraftRejection(draftId, reason, reason.message(), null, null, null);
+    }
+}
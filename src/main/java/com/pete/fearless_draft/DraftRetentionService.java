@@ -0,0 +1,164 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.SeriesManager;
+import com.pete.fearless_draft.series.SeriesState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the draft map from growing forever.
+ *
+ * - Active drafts are left alone.
+ * - COMPLETE drafts are demoted to a compact form straight away and evicted after
+ *   completed-ttl, unless their series still needs them for nextGame (then series-idle-ttl).
+ * - Lobbies that never start are evicted after lobby-idle-ttl without a change. A series'
+ *   first game is a provisioned lobby (often bulk-created hours before the match) and
+ *   gets provisioned-ttl instead.
+ * - Drafts left paused (by a referee, or by DraftPresence when the players left) are
+ *   evicted after paused-idle-ttl without a change, series games included.
+ * - A series is evicted once its current draft is gone.
+ *
+ * "Idle" is judged by DraftState.version not moving between sweeps, so nothing on the
+ * mutation path has to record timestamps for us.
+ */
+@Service
+public class DraftRetentionService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftRetentionService.class);
+
+    private final DraftManager draftManager;
+    private final SeriesManager seriesManager;
+    private final DraftClock clock;
+
+    private final long completedTtlMs;
+    private final long lobbyIdleMs;
+    private final long provisionedIdleMs;
+    private final long seriesIdleMs;
+    private final long pausedIdleMs;
+
+    private final ScheduledExecutorService sweeper;
+
+    // sweeper thread only
+    private final Map<String, Observation> observed = new HashMap<>();
+
+    private static final class Observation {
+        long version;
+        long unchangedSince;
+        boolean demoted;
+    }
+
+    public DraftRetentionService(
+            DraftManager draftManager,
+            SeriesManager seriesManager,
+            DraftClock clock,
+            @Value("${draft.retention.completed-ttl:2h}") Duration completedTtl,
+            @Value("${draft.retention.lobby-idle-ttl:1h}") Duration lobbyIdleTtl,
+            @Value("${draft.retention.provisioned-ttl:24h}") Duration provisionedTtl,
+            @Value("${draft.retention.series-idle-ttl:12h}") Duration seriesIdleTtl,
+            @Value("${draft.retention.paused-idle-ttl:6h}") Duration pausedIdleTtl,
+            @Value("${draft.retention.sweep-interval:1m}") Duration sweepInterval
+    ) {
+        this.draftManager = draftManager;
+        this.seriesManager = seriesManager;
+        this.clock = clock;
+        this.completedTtlMs = completedTtl.toMillis();
+        this.lobbyIdleMs = lobbyIdleTtl.toMillis();
+        this.provisionedIdleMs = provisionedTtl.toMillis();
+        this.seriesIdleMs = seriesIdleTtl.toMillis();
+        this.pausedIdleMs = pausedIdleTtl.toMillis();
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("draft-retention-"));
+        this.sweeper.scheduleWithFixedDelay(this::sweepSafely,
+                sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep(clock.now());
+        } catch (RuntimeException e) {
+            log.warn("Draft retention sweep failed", e);
+        }
+    }
+
+    void sweep(long now) {
+        Set<String> seen = new HashSet<>();
+        int demoted = 0;
+        int evicted = 0;
+
+        for (DraftState d : draftManager.all()) {
+            String id = d.draftId();
+            seen.add(id);
+
+            Observation o = observed.get(id);
+            if (o == null) {
+                o = new Observation();
+                o.version = d.version();
+                o.unchangedSince = now;
+                observed.put(id, o);
+            } else if (o.version != d.version()) {
+                o.version = d.version();
+                o.unchangedSince = now;
+            }
+            long idleMs = now - o.unchangedSince;
+
+            if (d.phase() == DraftPhase.COMPLETE) {
+                if (!o.demoted) {
+                    draftManager.demote(id);
+                    o.demoted = true;
+                    demoted++;
+                }
+
+                boolean neededBySeries = d.seriesId() != null && seriesManager.needsDraft(d.seriesId(), id);
+                if (idleMs >= (neededBySeries ? seriesIdleMs : completedTtlMs)) {
+                    draftManager.evict(id);
+                    evicted++;
+                }
+            } else if (d.turnStartedAt() == 0L && idleMs >= (provisioned(d) ? provisionedIdleMs : lobbyIdleMs)) {
+                // never started (or reset by a restart before starting)
+                draftManager.evict(id);
+                evicted++;
+            } else if (d.pausedAt() > 0L && idleMs >= pausedIdleMs) {
+                // nobody came back to resume it
+                draftManager.evict(id);
+                evicted++;
+            }
+        }
+
+        observed.keySet().retainAll(seen);
+
+        int seriesEvicted = 0;
+        for (SeriesState s : seriesManager.all()) {
+            if (!draftManager.exists(s.currentDraftId())) {
+                seriesManager.evict(s.seriesId());
+                seriesEvicted++;
+            }
+        }
+
+        if (demoted + evicted + seriesEvicted > 0) {
+            log.info("Draft retention: demoted {}, evicted {} drafts and {} series", demoted, evicted, seriesEvicted);
+        }
+    }
+
+    // game 1 of a series: set up ahead of the match, not a lobby someone walked away from
+    private static boolean provisioned(DraftState d) {
+        return d.seriesId() != null && d.gameNumber() == 1;
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+}
@@ -10,18 +10,27 @@ import java.util.Map;
 public class DraftService {
 
     private final DraftEngine engine;
+    private final DraftFormatRegistry formats;
 
-    public DraftService(DraftEngine engine) {
+    public DraftService(DraftEngine engine, DraftFormatRegistry formats) {
         this.engine = engine;
+        this.formats = formats;
     }
 
     // ✅ Single-game create
-    public DraftState createDraft(String draftId, String blueTeamName, String redTeamName, DraftTurn firstPickTeam) {
+    public DraftState createDraft(
+            String draftId,
+            String blueTeamName,
+            String redTeamName,
+            DraftTurn firstPickTeam,
+            String formatId
+    ) {
         return engine.createInitialState(
                 draftId,
                 blueTeamName,
                 redTeamName,
                 firstPickTeam,
+                formats.resolve(formatId),
                 DraftMode.SINGLE,
                 null,
                 1,
@@ -35,6 +44,7 @@ public class DraftService {
             String blueTeamName,
             String redTeamName,
             DraftTurn firstPickTeam,
+            String formatId,
             String seriesId,
             int gameNumber,
             List<String> lockedChampionIds
@@ -44,6 +54,7 @@ public class DraftService {
                 blueTeamName,
                 redTeamName,
                 firstPickTeam,
+                formats.resolve(formatId),
                 DraftMode.FEARLESS_SERIES,
                 seriesId,
                 gameNumber,
@@ -51,10 +62,55 @@ public class DraftService {
         );
     }
 
+    /** Next game of a series, carrying the given locks (FearlessLocks.nextGame() of the finished game). */
+    public DraftState createFearlessDraft(
+            String draftId,
+            String blueTeamName,
+            String redTeamName,
+            DraftTurn firstPickTeam,
+            String formatId,
+            String seriesId,
+            int gameNumber,
+            FearlessLocks locks
+    ) {
+        return engine.createInitialState(
+                draftId,
+                blueTeamName,
+                redTeamName,
+                firstPickTeam,
+                formats.resolve(formatId),
+                DraftMode.FEARLESS_SERIES,
+                seriesId,
+                gameNumber,
+                locks
+        );
+    }
+
+    public boolean isLocked(DraftState state, String championId) {
+        return engine.isLocked(state, championId);
+    }
+
+    /** The state's fearless locks, rebuilt if it doesn't carry them (see DraftEngine). */
+    public FearlessLocks fearlessLocks(DraftState state) {
+        return engine.fearlessLocks(state);
+    }
+
+    // States read back from the journal don't carry the champion bitsets
+    public DraftState rehydrate(DraftState state, long version) {
+        return engine.withChampionSets(state, version);
+    }
+
     public DraftState setPreview(DraftState state, DraftTurn team, String championId) {
+        Map<DraftTurn, String> change = new EnumMap<>(DraftTurn.class);
+        change.put(team, championId);
+        return setPreviews(state, change);
+    }
+
+    // One copy for any number of teams' preview changes (coalesced previews flush both at once)
+    public DraftState setPreviews(DraftState state, Map<DraftTurn, String> changes) {
         Map<DraftTurn, String> newPreviews = new EnumMap<>(DraftTurn.class);
         newPreviews.putAll(state.previews());
-        newPreviews.put(team, championId);
+        newPreviews.putAll(changes);
 
         // These are filled accurately at broadcast-time; stored state can keep 0s
         long serverNow = 0L;
@@ -77,49 +133,31 @@ public class DraftService {
                 state.turnDurationSeconds(),
                 serverNow,
                 turnEndsAt,
+                state.pausedAt(),
                 state.blueReady(),
                 state.redReady(),
                 state.mode(),
                 state.seriesId(),
                 state.gameNumber(),
-                state.lockedChampionIds()
+                state.lockedChampionIds(),
+                state.version() + 1,
+                state.format(),
+                state.usedChampions(),
+                state.fearlessLocks()
         );
     }
 
-    public DraftState applyAction(DraftState state, DraftAction action) {
-        DraftState next = engine.applyAction(state, action);
-
-        Map<DraftTurn, String> previews = new EnumMap<>(DraftTurn.class);
-        previews.putAll(next.previews());
-        previews.remove(action.team());
+    /** Why the rules refuse action, or null; see DraftEngine#validate. */
+    public RejectReason validate(DraftState state, DraftAction action) {
+        return engine.validate(state, action);
+    }
 
-        // These are filled accurately at broadcast-time; stored state can keep 0s
-        long serverNow = 0L;
-        long turnEndsAt = 0L;
+    public DraftState applyAction(DraftState state, DraftAction action) {
+        return engine.applyAction(state, action);
+    }
 
-        return new DraftState(
-                next.draftId(),
-                state.blueTeamName(),
-                state.redTeamName(),
-                state.firstPickTeam(),
-                next.phase(),
-                next.step(),
-                next.turn(),
-                next.bluePicks(),
-                next.redPicks(),
-                next.bans(),
-                previews,
-                next.lastPickedChampion(),
-                next.turnStartedAt(),
-                next.turnDurationSeconds(),
-                serverNow,
-                turnEndsAt,
-                next.blueReady(),
-                next.redReady(),
-                next.mode(),
-                next.seriesId(),
-                next.gameNumber(),
-                next.lockedChampionIds()
-        );
+    /** applyAction with the next turn's timing and the new version stamped in the same copy. */
+    public DraftState applyAction(DraftState state, DraftAction action, long turnStartedAt, int turnDurationSeconds, long version) {
+        return engine.applyAction(state, action, turnStartedAt, turnDurationSeconds, version);
     }
 }
@@ -1,8 +1,13 @@
 package com.pete.fearless_draft;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import java.util.List;
 import java.util.Map;
 
+// serverNow first: DraftBroadcaster finds its marker ahead of anything a client typed
+@JsonPropertyOrder({"serverNow"})
 public record DraftState(
         String draftId,
         String blueTeamName,
@@ -21,6 +26,8 @@ public record DraftState(
 
         long serverNow,     // ✅ NEW: epoch ms at send time
         long turnEndsAt,    // ✅ NEW: epoch ms (turnStartedAt + duration*1000)
+        // referee paused the turn clock at this time, 0 = running; time left = turnEndsAt - pausedAt
+        long pausedAt,
 
         boolean blueReady,
         boolean redReady,
@@ -28,5 +35,13 @@ public record DraftState(
         DraftMode mode,
         String seriesId,
         int gameNumber,
-        List<String> lockedChampionIds
+        List<String> lockedChampionIds,
+
+        long version,       // ✅ bumped by every committed mutation; patches carry the same sequence
+
+        String format,      // DraftFormatRegistry id, e.g. "STANDARD"
+
+        // server-side bitsets over ChampionRegistry indices; the lists above stay the wire format
+        @JsonIgnore ChampionSet usedChampions,      // bans + both teams' picks
+        @JsonIgnore FearlessLocks fearlessLocks     // lockedChampionIds + this game's picks, see FearlessLocks
 ) {}
@@ -0,0 +1,36 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.SeriesState;
+
+import java.util.Collection;
+
+/**
+ * Where a node keeps the drafts and series it owns. In cluster mode every node has its
+ * own store holding only its shard (see ClusterMembership); nothing here is shared.
+ *
+ * Writes come from several threads: a draft's mutations from its lane, but creation from
+ * the request thread, restore from startup and series eviction from the retention sweep.
+ * Implementations must be safe for concurrent reads and writes; ordering the updates to
+ * one id is up to the callers.
+ */
+public interface DraftStore {
+
+    /** @return the draft, or null if this node doesn't hold it */
+    DraftState draft(String draftId);
+
+    void putDraft(DraftState state);
+
+    /** @return the removed draft, or null if there was none */
+    DraftState removeDraft(String draftId);
+
+    Collection<DraftState> drafts();
+
+    /** @return the series, or null if this node doesn't hold it */
+    SeriesState series(String seriesId);
+
+    void putSeries(SeriesState state);
+
+    SeriesState removeSeries(String seriesId);
+
+    Collection<SeriesState> allSeries();
+}
@@ -1,49 +1,52 @@
 package com.pete.fearless_draft;
 
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 
 @Service
 public class DraftTimerService {
 
-    private final TaskScheduler scheduler;
+    private final HashedTimingWheel wheel;
+    private final DraftClock clock;
     private final DraftTimeoutHandler timeoutHandler;
 
-    private final Map<String, ScheduledFuture<?>> timers = new ConcurrentHashMap<>();
+    private final Map<String, HashedTimingWheel.WheelTimeout> timers = new ConcurrentHashMap<>();
 
-    public DraftTimerService(TaskScheduler scheduler, @Lazy DraftTimeoutHandler timeoutHandler) {
-        this.scheduler = scheduler;
+    public DraftTimerService(HashedTimingWheel wheel, DraftClock clock, @Lazy DraftTimeoutHandler timeoutHandler) {
+        this.wheel = wheel;
+        this.clock = clock;
         this.timeoutHandler = timeoutHandler;
     }
 
     public void schedule(DraftState state) {
-        cancel(state.draftId());
-
-        if (state.phase() == DraftPhase.COMPLETE) return;
+        // a paused clock has nothing to fire; resume schedules the rest of the turn
+        if (state.phase() == DraftPhase.COMPLETE || state.pausedAt() > 0) {
+            cancel(state.draftId());
+            return;
+        }
 
         final String draftId = state.draftId();
         final int expectedStep = state.step();
         final DraftPhase expectedPhase = state.phase();
         final long expectedStartedAt = state.turnStartedAt();
 
-        Instant fireAt = Instant.ofEpochMilli(expectedStartedAt)
-                .plusSeconds(state.turnDurationSeconds());
+        long fireAt = expectedStartedAt + (state.turnDurationSeconds() * 1000L);
+        long delayMs = fireAt - clock.now();
 
-        ScheduledFuture<?> future = scheduler.schedule(() -> {
+        HashedTimingWheel.WheelTimeout timeout = wheel.newTimeout(() -> {
             timeoutHandler.onTurnTimeout(draftId, expectedPhase, expectedStep, expectedStartedAt);
-        }, fireAt);
+        }, delayMs);
 
-        timers.put(draftId, future);
+        // one map write per schedule; the replaced timeout is cancelled in O(1)
+        HashedTimingWheel.WheelTimeout existing = timers.put(draftId, timeout);
+        if (existing != null) existing.cancel();
     }
 
     public void cancel(String draftId) {
-        ScheduledFuture<?> existing = timers.remove(draftId);
-        if (existing != null) existing.cancel(false);
+        HashedTimingWheel.WheelTimeout existing = timers.remove(draftId);
+        if (existing != null) existing.cancel();
     }
 }
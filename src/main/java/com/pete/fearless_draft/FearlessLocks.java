@@ -0,0 +1,90 @@
+package com.pete.fearless_draft;
+
+import java.util.List;
+
+/**
+ * A series' fearless lock index as of one point in one game. Immutable and shared freely
+ * between threads and versions.
+ *
+ * - carried: locked by earlier games; what a pick in this game is checked against.
+ * - all: carried + the picks made so far in this game; what the next game starts from.
+ * - ids: the champion ids of all, in lock order (the wire list), a shared PickList.
+ *
+ * Picks are added one at a time as they are applied, so moving to the next game is
+ * {@link #nextGame()}, no rescan of earlier games, and every query is a bit test. A
+ * champion without a registry index (-1, see ChampionRegistry.intern) is only in ids, and
+ * is looked up there by name.
+ */
+public final class FearlessLocks {
+
+    public static final FearlessLocks EMPTY = new FearlessLocks(ChampionSet.EMPTY, ChampionSet.EMPTY, List.of(), 0);
+
+    private final ChampionSet carried;
+    private final ChampionSet all;
+    private final List<String> ids;
+    private final int carriedCount;
+
+    private FearlessLocks(ChampionSet carried, ChampionSet all, List<String> ids, int carriedCount) {
+        this.carried = carried;
+        this.all = all;
+        this.ids = ids;
+        this.carriedCount = carriedCount;
+    }
+
+    /** Start of a game with these ids locked by earlier games. */
+    public static FearlessLocks of(ChampionSet champions, List<String> ids) {
+        List<String> copy = List.copyOf(ids);
+        return new FearlessLocks(champions, champions, copy, copy.size());
+    }
+
+    /** This game picked the champion (index -1 if it has none): locked for the rest of the series. */
+    public FearlessLocks withPick(int champion, String championId) {
+        if (champion < 0 ? ids.contains(championId) : all.contains(champion)) return this;
+        // a bo5 of a 10-pick format never outgrows this
+        ChampionSet next = champion < 0 ? all : all.with(champion);
+        return new FearlessLocks(carried, next, PickList.append(ids, championId, carriedCount + 16), carriedCount);
+    }
+
+    /** The next game's starting point: everything locked so far carries over. O(1). */
+    public FearlessLocks nextGame() {
+        return new FearlessLocks(all, all, ids, ids.size());
+    }
+
+    /** Locked by an earlier game, so it can't be picked in this one. */
+    public boolean lockedForThisGame(int champion) {
+        return carried.contains(champion);
+    }
+
+    /** {@link #lockedForThisGame(int)} for a champion without an index. */
+    public boolean lockedForThisGame(String championId) {
+        return carriedIds().contains(championId);
+    }
+
+    /** Picked at any point in the series so far, this game included. */
+    public boolean isLocked(int champion) {
+        return all.contains(champion);
+    }
+
+    /** {@link #isLocked(int)} for a champion without an index. */
+    public boolean isLocked(String championId) {
+        return ids.contains(championId);
+    }
+
+    /** Ids locked by earlier games (DraftState.lockedChampionIds). */
+    public List<String> carriedIds() {
+        return carriedCount == ids.size() ? ids : ids.subList(0, carriedCount);
+    }
+
+    /** Every id locked so far, in lock order. */
+    public List<String> ids() {
+        return ids;
+    }
+
+    public ChampionSet carried() {
+        return carried;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
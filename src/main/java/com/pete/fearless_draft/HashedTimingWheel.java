@@ -0,0 +1,219 @@
+package com.pete.fearless_draft;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel: O(1) schedule and cancel, one ticker thread.
+ *
+ * New timeouts and cancellations go through lock-free queues and are applied by the ticker,
+ * so buckets are only ever touched by one thread and hold only live timeouts. Everything due in the same tick is fired back-to-back on the ticker thread, so tasks
+ * must be short (hand work off to a {@link DraftLanes} lane, don't do it inline).
+ */
+public class HashedTimingWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    // cap on how many new timeouts one tick moves into buckets, so a burst can't stall firing
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickMs;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread ticker;
+
+    private volatile long startNanos;
+    private volatile boolean running;
+    private long tick; // ticker thread only
+
+    public HashedTimingWheel(long tickMs, int wheelSize, String threadName) {
+        if (tickMs <= 0) throw new IllegalArgumentException("tickMs must be > 0");
+        if (wheelSize <= 0) throw new IllegalArgumentException("wheelSize must be > 0");
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size <= 0) size = 1;
+
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) wheel[i] = new Bucket();
+
+        this.ticker = new Thread(this::run, threadName);
+        this.ticker.setDaemon(true);
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        running = true;
+        ticker.start();
+    }
+
+    public void stop() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    public long tickMs() {
+        return tickMs;
+    }
+
+    /** Schedule a task to run after delayMs (rounded up to the next tick). */
+    public WheelTimeout newTimeout(Runnable task, long delayMs) {
+        long deadline = elapsedMs() + Math.max(0L, delayMs);
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /* ---------------- TICKER ---------------- */
+
+    private void run() {
+        while (running) {
+            long tickDeadline = tickMs * (tick + 1);
+            long sleepMs = tickDeadline - elapsedMs();
+            if (sleepMs > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMs));
+                continue;
+            }
+
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTimeout t;
+        while ((t = cancelled.poll()) != null) {
+            // still in the pending queue -> transferPending skips it
+            if (t.bucket != null) t.bucket.remove(t);
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            WheelTimeout t = pending.poll();
+            if (t == null) return;
+            if (t.isCancelled()) continue;
+
+            long calculated = t.deadline / tickMs;
+            t.remainingRounds = (calculated - tick) / wheel.length;
+
+            // already overdue -> fire in the current tick
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(t);
+        }
+    }
+
+    /* ---------------- TIMEOUT ---------------- */
+
+    public static final class WheelTimeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedTimingWheel owner;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // ticker thread only
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        private WheelTimeout(HashedTimingWheel owner, Runnable task, long deadline) {
+            this.owner = owner;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /** @return true if this call cancelled it, false if it already fired or was cancelled. */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) return false;
+            owner.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) return;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timer task failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /* ---------------- BUCKET ---------------- */
+
+    // Intrusive doubly linked list; only touched by the ticker thread.
+    private static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout t) {
+            t.bucket = this;
+            if (head == null) {
+                head = tail = t;
+            } else {
+                tail.next = t;
+                t.prev = tail;
+                tail = t;
+            }
+        }
+
+        void expire(long tickDeadline) {
+            WheelTimeout t = head;
+            while (t != null) {
+                WheelTimeout next = t.next;
+                if (t.isCancelled()) {
+                    remove(t);
+                } else if (t.remainingRounds <= 0) {
+                    remove(t);
+                    if (t.deadline <= tickDeadline) {
+                        t.expire();
+                    }
+                } else {
+                    t.remainingRounds--;
+                }
+                t = next;
+            }
+        }
+
+        void remove(WheelTimeout t) {
+            if (t.prev != null) t.prev.next = t.next;
+            if (t.next != null) t.next.prev = t.prev;
+            if (t == head) head = t.next;
+            if (t == tail) tail = t.prev;
+            t.prev = null;
+            t.next = null;
+            t.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.SeriesState;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Default store: two maps on the heap, made durable by DraftJournal when that's enabled. */
+@Component
+public class InMemoryDraftStore implements DraftStore {
+
+    private final Map<String, DraftState> drafts = new ConcurrentHashMap<>();
+    private final Map<String, SeriesState> series = new ConcurrentHashMap<>();
+
+    @Override
+    public DraftState draft(String draftId) {
+        return drafts.get(draftId);
+    }
+
+    @Override
+    public void putDraft(DraftState state) {
+        drafts.put(state.draftId(), state);
+    }
+
+    @Override
+    public DraftState removeDraft(String draftId) {
+        return drafts.remove(draftId);
+    }
+
+    @Override
+    public Collection<DraftState> drafts() {
+        return Collections.unmodifiableCollection(drafts.values());
+    }
+
+    @Override
+    public SeriesState series(String seriesId) {
+        return series.get(seriesId);
+    }
+
+    @Override
+    public void putSeries(SeriesState state) {
+        series.put(state.seriesId(), state);
+    }
+
+    @Override
+    public SeriesState removeSeries(String seriesId) {
+        return series.remove(seriesId);
+    }
+
+    @Override
+    public Collection<SeriesState> allSeries() {
+        return Collections.unmodifiableCollection(series.values());
+    }
+}
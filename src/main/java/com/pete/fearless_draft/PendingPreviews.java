@@ -0,0 +1,40 @@
+package com.pete.fearless_draft;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latest not-yet-applied preview per team for one draft. Inbound threads overwrite the
+ * slot; the draft's lane drains it, so a burst of hovers becomes one state change.
+ */
+final class PendingPreviews {
+
+    // identity sentinel: "no pending value" (null is a legitimate preview: cleared)
+    private static final String EMPTY = new String("<none>");
+
+    private final AtomicReferenceArray<String> slots = new AtomicReferenceArray<>(DraftTurn.values().length);
+    final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    PendingPreviews() {
+        for (int i = 0; i < slots.length(); i++) slots.set(i, EMPTY);
+    }
+
+    void offer(DraftTurn team, String championId) {
+        slots.set(team.ordinal(), championId);
+    }
+
+    /** Take everything pending, or null if nothing is. */
+    Map<DraftTurn, String> drain() {
+        Map<DraftTurn, String> out = null;
+        for (DraftTurn team : DraftTurn.values()) {
+            String v = slots.getAndSet(team.ordinal(), EMPTY);
+            if (v == EMPTY) continue;
+
+            if (out == null) out = new EnumMap<>(DraftTurn.class);
+            out.put(team, v);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pete.fearless_draft;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Pick and ban lists of a DraftState. Immutable to readers, but successive versions of a
+ * draft share one backing array: appending to the newest list fills the next free slot
+ * and returns a longer view of the same array, so an action allocates one small view
+ * instead of copying the list. Appending to an older version (its next slot already
+ * taken by a newer one) falls back to a copy, so every version stays intact.
+ *
+ * Serializes like any other List.
+ */
+final class PickList extends AbstractList<String> implements RandomAccess {
+
+    private static final VarHandle CLAIMED;
+
+    static {
+        try {
+            CLAIMED = MethodHandles.lookup().findVarHandle(Slots.class, "claimed", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // shared by every view appended from the same list; claimed = slots handed out so far
+    private static final class Slots {
+        final String[] items;
+        int claimed;
+
+        Slots(String[] items, int claimed) {
+            this.items = items;
+            this.claimed = claimed;
+        }
+    }
+
+    private final Slots slots;
+    private final int size;
+
+    private PickList(Slots slots, int size) {
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /** list + id. capacity sizes the backing array when one has to be made. */
+    static List<String> append(List<String> list, String id, int capacity) {
+        if (list instanceof PickList p) {
+            Slots s = p.slots;
+            if (p.size < s.items.length && CLAIMED.compareAndSet(s, p.size, p.size + 1)) {
+                // published to readers with the state that carries the new view
+                s.items[p.size] = id;
+                return new PickList(s, p.size + 1);
+            }
+        }
+
+        int n = list.size();
+        String[] items = new String[Math.max(capacity, n + 1)];
+        for (int i = 0; i < n; i++) items[i] = list.get(i);
+        items[n] = id;
+        return new PickList(new Slots(items, n + 1), n + 1);
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        return slots.items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
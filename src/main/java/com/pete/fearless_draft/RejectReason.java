@@ -0,0 +1,29 @@
+package com.pete.fearless_draft;
+
+/** Why an action was refused: counted in DraftMetrics and sent back to the acting session (DraftRejection). */
+public enum RejectReason {
+    NOT_YOUR_TURN("Not your turn"),
+    WRONG_PHASE("Wrong phase"),
+    CHAMPION_USED("Champion already used"),
+    CHAMPION_LOCKED("Champion is locked by Fearless Draft"),
+    MISSING_CHAMPION("championId is required"),
+    UNKNOWN_CHAMPION("Unknown champion"),
+    DRAFT_COMPLETE("Draft is complete"),
+    NOT_STARTED("Draft has not started"),
+    PAUSED("Draft is paused"),
+    INVALID_STEP("Invalid draft step"),
+    STALE_STEP("Action was for an earlier step"),     // double click, or a click after the turn timed out
+    DRAFT_NOT_FOUND("Draft not found"),
+    INVALID_MESSAGE("Malformed message"),
+    RATE_LIMITED("Too many messages, slow down");     // shed by DraftAdmission, counted there rather than here
+
+    private final String message;
+
+    RejectReason(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+}
@@ -1,20 +1,21 @@
 package com.pete.fearless_draft;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 public class SchedulingConfig {
 
-    @Bean
-    @Primary
-    public ThreadPoolTaskScheduler taskScheduler() {
-        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(4);
-        scheduler.setThreadNamePrefix("draft-timer-");
-        scheduler.initialize();
-        return scheduler;
+    /**
+     * Turn timers. One ticker thread for every draft; tick 10ms x 512 slots = ~5s per
+     * rotation, so a 30s turn sits on the wheel for about 6 rounds.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public HashedTimingWheel draftTimingWheel(
+            @Value("${draft.timer.tick-ms:10}") long tickMs,
+            @Value("${draft.timer.wheel-size:512}") int wheelSize
+    ) {
+        return new HashedTimingWheel(tickMs, wheelSize, "draft-timer-wheel");
     }
 }
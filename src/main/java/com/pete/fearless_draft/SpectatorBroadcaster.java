@@ -0,0 +1,137 @@
+package com.pete.fearless_draft;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /topic/spectate/{id}: the audience's copy of a draft, kept off the players' path.
+ *
+ * Lanes only drop the new state into the draft's feed. A single "draft-spectator" thread
+ * sends at most one frame per draft per interval (the newest due state), optionally
+ * spectator-delay behind the players. Each frame is a SpectatorView encoded once and the
+ * same bytes fan out to every spectator, on this thread, not the lane. So an audience of
+ * thousands costs the players nothing on pick latency.
+ */
+@Component
+public class SpectatorBroadcaster implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SpectatorBroadcaster.class);
+
+    private final SimpMessagingTemplate brokerMessagingTemplate;
+    private final JsonMapper jsonMapper;
+    private final DraftClock clock;
+    private final long delayMs;
+
+    private final Map<String, SpectatorFeed> feeds = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService sender;
+
+    public SpectatorBroadcaster(
+            SimpMessagingTemplate brokerMessagingTemplate,
+            JsonMapper jsonMapper,
+            DraftClock clock,
+            @Value("${draft.spectator.interval:500ms}") Duration interval,
+            @Value("${draft.spectator.delay:0s}") Duration delay
+    ) {
+        this.brokerMessagingTemplate = brokerMessagingTemplate;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+        this.delayMs = delay.toMillis();
+
+        this.sender = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("draft-spectator-"));
+        this.sender.scheduleWithFixedDelay(this::flushSafely,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static String spectateTopic(String draftId) {
+        return "/topic/spectate/" + draftId;
+    }
+
+    /** Player-side: a new committed state. Cheap, called on the draft's lane. */
+    public void offer(DraftState state) {
+        feeds.computeIfAbsent(state.draftId(), id -> new SpectatorFeed())
+                .offer(clock.now(), state, delayMs > 0);
+        dirty.add(state.draftId());
+    }
+
+    /** Someone just subscribed: repeat the current frame on the next flush. */
+    public void resend(String draftId) {
+        SpectatorFeed feed = feeds.get(draftId);
+        if (feed == null) return;
+
+        feed.resend = true;
+        dirty.add(draftId);
+    }
+
+    /** The last frame spectators were sent, or null if none yet. */
+    public byte[] latest(String draftId) {
+        SpectatorFeed feed = feeds.get(draftId);
+        return feed == null ? null : feed.lastFrame;
+    }
+
+    public void forget(String draftId) {
+        feeds.remove(draftId);
+        dirty.remove(draftId);
+    }
+
+    /* ---------------- SPECTATOR THREAD ---------------- */
+
+    private void flushSafely() {
+        try {
+            flush(clock.now());
+        } catch (RuntimeException e) {
+            log.warn("Spectator flush failed", e);
+        }
+    }
+
+    void flush(long now) {
+        for (String draftId : dirty) {
+            dirty.remove(draftId);
+
+            SpectatorFeed feed = feeds.get(draftId);
+            if (feed == null) continue;
+
+            DraftState due = feed.takeDue(now - delayMs);
+            if (due != null && due.version() != feed.lastVersion) {
+                feed.lastFrame = jsonMapper.writeValueAsBytes(SpectatorView.of(due, now, delayMs));
+                feed.lastVersion = due.version();
+                send(draftId, feed.lastFrame);
+            } else if (feed.resend && feed.lastFrame != null) {
+                send(draftId, feed.lastFrame);
+            }
+            feed.resend = false;
+
+            // delayed states still waiting, or an offer that raced this flush
+            if (feed.hasPending()) dirty.add(draftId);
+        }
+    }
+
+    private void send(String draftId, byte[] frame) {
+        brokerMessagingTemplate.send(spectateTopic(draftId), MessageBuilder.withPayload(frame)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build());
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+}
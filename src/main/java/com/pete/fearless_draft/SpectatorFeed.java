@@ -0,0 +1,39 @@
+package com.pete.fearless_draft;
+
+import java.util.ArrayDeque;
+
+/**
+ * One draft's spectator stream: the player states not yet shown to spectators, and the
+ * last frame that was. Lanes offer, the spectator thread drains.
+ */
+final class SpectatorFeed {
+
+    private record Stamped(long at, DraftState state) {}
+
+    private final ArrayDeque<Stamped> pending = new ArrayDeque<>();
+
+    // spectator thread only
+    byte[] lastFrame;
+    long lastVersion = -1;
+
+    volatile boolean resend;
+
+    synchronized void offer(long now, DraftState state, boolean delayed) {
+        // no delay: only the newest state matters
+        if (!delayed) pending.clear();
+        pending.addLast(new Stamped(now, state));
+    }
+
+    /** Newest state offered at or before cutoff (dropping it and everything older), or null. */
+    synchronized DraftState takeDue(long cutoff) {
+        DraftState due = null;
+        while (!pending.isEmpty() && pending.peekFirst().at() <= cutoff) {
+            due = pending.pollFirst().state();
+        }
+        return due;
+    }
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+}
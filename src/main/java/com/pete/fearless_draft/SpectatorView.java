@@ -0,0 +1,61 @@
+package com.pete.fearless_draft;
+
+import java.util.List;
+
+/**
+ * What /topic/spectate/{id} carries: the board without anything only the players should
+ * see live (hover previews, ready toggles). With a spectator delay the board is that old
+ * and turnEndsAt (and pausedAt) are shifted by the same amount, so the clock still matches
+ * the board.
+ */
+public record SpectatorView(
+        String draftId,
+        String blueTeamName,
+        String redTeamName,
+        DraftPhase phase,
+        int step,
+        DraftTurn turn,
+        List<String> bluePicks,
+        List<String> redPicks,
+        List<String> bans,
+        String lastPickedChampion,
+        long turnEndsAt,
+        long pausedAt,
+        long serverNow,
+        long delayMs,
+        DraftMode mode,
+        String seriesId,
+        int gameNumber,
+        List<String> lockedChampionIds,
+        long version,
+        String format
+) {
+    static SpectatorView of(DraftState s, long now, long delayMs) {
+        long endsAt = (s.turnStartedAt() > 0 && s.turnDurationSeconds() > 0)
+                ? s.turnStartedAt() + s.turnDurationSeconds() * 1000L + delayMs
+                : 0L;
+
+        return new SpectatorView(
+                s.draftId(),
+                s.blueTeamName(),
+                s.redTeamName(),
+                s.phase(),
+                s.step(),
+                s.turn(),
+                s.bluePicks(),
+                s.redPicks(),
+                s.bans(),
+                s.lastPickedChampion(),
+                endsAt,
+                s.pausedAt() > 0 ? s.pausedAt() + delayMs : 0L,
+                now,
+                delayMs,
+                s.mode(),
+                s.seriesId(),
+                s.gameNumber(),
+                s.lockedChampionIds(),
+                s.version(),
+                s.format()
+        );
+    }
+}
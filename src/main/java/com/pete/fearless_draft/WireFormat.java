@@ -0,0 +1,34 @@
+package com.pete.fearless_draft;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Payload encodings for /topic/draft/**. A STOMP connection picks one at CONNECT
+ * (see ws.StompEncodingInterceptor); each encoding has its own copy of the draft topics.
+ */
+public enum WireFormat {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON, "/topic"),
+
+    // not application/cbor: Spring only sends a binary WebSocket frame for octet-stream,
+    // anything else goes out as a text frame and binary bytes wouldn't survive that
+    CBOR(MimeTypeUtils.APPLICATION_OCTET_STREAM, "/topic/cbor");
+
+    private final MimeType mimeType;
+    private final String topicRoot;
+
+    WireFormat(MimeType mimeType, String topicRoot) {
+        this.mimeType = mimeType;
+        this.topicRoot = topicRoot;
+    }
+
+    public MimeType mimeType() {
+        return mimeType;
+    }
+
+    /** "/topic/draft/{id}" -> this encoding's copy of it, e.g. "/topic/cbor/draft/{id}". */
+    public String topic(String jsonTopic) {
+        return this == JSON ? jsonTopic : topicRoot + jsonTopic.substring("/topic".length());
+    }
+}
@@ -0,0 +1,33 @@
+package com.pete.fearless_draft.analytics;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Answered from DraftAnalytics' running counters; nothing here touches the drafts.
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+    private final DraftAnalytics analytics;
+
+    public AnalyticsController(DraftAnalytics analytics) {
+        this.analytics = analytics;
+    }
+
+    @GetMapping
+    public AnalyticsSummary summary(@RequestParam(defaultValue = "20") int limit) {
+        return analytics.summary(limit);
+    }
+
+    @GetMapping("/champions/{championId}")
+    public ResponseEntity<ChampionReport> champion(@PathVariable String championId) {
+        ChampionReport report = analytics.champion(championId);
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+
+    @GetMapping("/teams/{team}")
+    public ResponseEntity<TeamReport> team(@PathVariable String team, @RequestParam(defaultValue = "20") int limit) {
+        TeamReport report = analytics.team(team, limit);
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,10 @@
+package com.pete.fearless_draft.analytics;
+
+import java.util.List;
+
+/** Completed drafts counted so far (since boot, on this node) and the top champions by presence. */
+public record AnalyticsSummary(
+        long drafts,
+        long[] draftsByGame,
+        List<ChampionRate> champions
+) {}
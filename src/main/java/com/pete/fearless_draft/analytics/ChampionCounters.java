@@ -0,0 +1,69 @@
+package com.pete.fearless_draft.analytics;
+
+import com.pete.fearless_draft.DraftPhase;
+import com.pete.fearless_draft.DraftTurn;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One champion's pick/ban counts, one LongAdder per cell so drafts completing on many
+ * lanes at once never contend on a shared word. Cells (kind = DraftPhase.BAN / PICK):
+ *
+ *   total[kind][side]   slot[kind][side][n-th of that team]   round[phase block]   game[kind][game]
+ */
+final class ChampionCounters {
+
+    static final int KINDS = DraftPhase.values().length;
+    static final int SIDES = DraftTurn.values().length;
+    static final int SLOTS = 8;     // a team's 8th+ ban or pick shares the last slot
+    static final int ROUNDS = 6;    // ban/pick phase blocks; standard has 4
+    static final int GAMES = 5;     // fearless game 1..5; SINGLE drafts are game 1
+
+    private static final int TOTAL = 0;
+    private static final int SLOT = TOTAL + KINDS * SIDES;
+    private static final int ROUND = SLOT + KINDS * SIDES * SLOTS;
+    private static final int GAME = ROUND + ROUNDS;
+    private static final int CELLS = GAME + KINDS * GAMES;
+
+    private final LongAdder[] cells = new LongAdder[CELLS];
+
+    ChampionCounters() {
+        for (int i = 0; i < CELLS; i++) cells[i] = new LongAdder();
+    }
+
+    // all indices already clamped by the caller
+    void record(int kind, int side, int slot, int round, int game) {
+        cells[TOTAL + kind * SIDES + side].increment();
+        cells[SLOT + (kind * SIDES + side) * SLOTS + slot].increment();
+        cells[ROUND + round].increment();
+        cells[GAME + kind * GAMES + game].increment();
+    }
+
+    long total(int kind) {
+        long n = 0;
+        for (int side = 0; side < SIDES; side++) n += total(kind, side);
+        return n;
+    }
+
+    long total(int kind, int side) {
+        return cells[TOTAL + kind * SIDES + side].sum();
+    }
+
+    long[] slots(int kind, int side) {
+        long[] out = new long[SLOTS];
+        for (int i = 0; i < SLOTS; i++) out[i] = cells[SLOT + (kind * SIDES + side) * SLOTS + i].sum();
+        return out;
+    }
+
+    long[] rounds() {
+        long[] out = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) out[i] = cells[ROUND + i].sum();
+        return out;
+    }
+
+    long[] games(int kind) {
+        long[] out = new long[GAMES];
+        for (int i = 0; i < GAMES; i++) out[i] = cells[GAME + kind * GAMES + i].sum();
+        return out;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pete.fearless_draft.analytics;
+
+/** Rates are per completed draft (of the whole node, or of one team for team reports). */
+public record ChampionRate(
+        String championId,
+        long picks,
+        long bans,
+        double pickRate,
+        double banRate,
+        double presence     // picked or banned; a champion can't be both in one draft
+) {
+    static ChampionRate of(String championId, long picks, long bans, long drafts) {
+        return new ChampionRate(championId, picks, bans, rate(picks, drafts), rate(bans, drafts), rate(picks + bans, drafts));
+    }
+
+    static double rate(long n, long drafts) {
+        return drafts == 0 ? 0.0 : (double) n / drafts;
+    }
+}
@@ -0,0 +1,22 @@
+package com.pete.fearless_draft.analytics;
+
+import com.pete.fearless_draft.DraftTurn;
+
+import java.util.Map;
+
+/**
+ * Everything counted for one champion. Array breakdowns are indexed from 0:
+ * slot n = the team's (n+1)-th ban or pick, round n = the (n+1)-th ban/pick phase of the
+ * format, game n = fearless game n+1.
+ */
+public record ChampionReport(
+        ChampionRate overall,
+        long drafts,
+        Map<DraftTurn, Side> bySide,
+        long[] byRound,
+        Games byGame
+) {
+    public record Side(long picks, long bans, long[] pickSlots, long[] banSlots) {}
+
+    public record Games(long[] drafts, long[] picks, long[] bans, double[] presence) {}
+}
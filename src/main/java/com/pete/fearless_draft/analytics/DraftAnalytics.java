@@ -0,0 +1,203 @@
+package com.pete.fearless_draft.analytics;
+
+import com.pete.fearless_draft.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pick/ban analytics over completed drafts, aggregated as they complete.
+ *
+ * DraftManager hands over each draft the moment it reaches COMPLETE (on its lane); the
+ * draft's order is walked once and every pick and ban bumps its champion's counters
+ * (by side, team slot, phase round and fearless game) and its team's. Queries only sum
+ * counters, they never look at drafts, so they cost the same however many drafts ran.
+ *
+ * Counts are since boot and per node (in cluster mode each node counts the drafts it
+ * owns). NONE (missed turns) is not counted.
+ */
+@Component
+public class DraftAnalytics {
+
+    private final ChampionRegistry champions;
+    private final DraftFormatRegistry formats;
+    private final int maxTeams;
+
+    private final LongAdder drafts = new LongAdder();
+    private final LongAdder[] draftsByGame = new LongAdder[ChampionCounters.GAMES];
+
+    // ChampionRegistry index -> counters, created on first pick/ban
+    private final AtomicReferenceArray<ChampionCounters> byChampion;
+    private final Map<String, TeamCounters> byTeam = new ConcurrentHashMap<>();
+
+    public DraftAnalytics(
+            ChampionRegistry champions,
+            DraftFormatRegistry formats,
+            @Value("${draft.analytics.max-teams:10000}") int maxTeams
+    ) {
+        this.champions = champions;
+        this.formats = formats;
+        this.maxTeams = maxTeams;
+        this.byChampion = new AtomicReferenceArray<>(champions.capacity());
+        for (int i = 0; i < draftsByGame.length; i++) draftsByGame[i] = new LongAdder();
+    }
+
+    /* ---------------- RECORD (draft lanes) ---------------- */
+
+    public void draftCompleted(DraftState d) {
+        DraftFormat format = formats.get(d.format());
+        int game = clamp(d.gameNumber() - 1, ChampionCounters.GAMES);
+
+        TeamCounters blue = team(d.blueTeamName());
+        TeamCounters red = team(d.redTeamName());
+
+        // n-th ban / pick so far per (kind, side); position in bans / bluePicks / redPicks
+        int[] slots = new int[ChampionCounters.KINDS * ChampionCounters.SIDES];
+        int ban = 0, bluePick = 0, redPick = 0;
+        int round = -1;
+        DraftPhase previous = null;
+
+        int steps = Math.min(d.step(), format.size());
+        for (int i = 0; i < steps; i++) {
+            DraftStep step = format.step(d.firstPickTeam(), i);
+            if (step.phase() != previous) {
+                round++;
+                previous = step.phase();
+            }
+
+            boolean isBan = step.phase() == DraftPhase.BAN;
+            boolean isBlue = step.turn() == DraftTurn.BLUE;
+            List<String> list = isBan ? d.bans() : isBlue ? d.bluePicks() : d.redPicks();
+            int at = isBan ? ban++ : isBlue ? bluePick++ : redPick++;
+            if (at >= list.size()) continue;
+
+            int kind = step.phase().ordinal();
+            int side = step.turn().ordinal();
+            int slot = slots[kind * ChampionCounters.SIDES + side]++;
+
+            String id = list.get(at);
+            if (id == null || DraftConstants.NONE_CHAMPION_ID.equals(id)) continue;
+
+            // registered by the engine when it was picked/banned (none past draft.champions.max: not counted)
+            int champion = champions.find(id);
+            if (champion < 0) continue;
+
+            counters(champion).record(kind, side,
+                    clamp(slot, ChampionCounters.SLOTS), clamp(round, ChampionCounters.ROUNDS), game);
+
+            TeamCounters team = isBlue ? blue : red;
+            if (team != null) team.record(champion, isBan);
+        }
+
+        drafts.increment();
+        draftsByGame[game].increment();
+        if (blue != null) blue.drafts.increment();
+        if (red != null) red.drafts.increment();
+    }
+
+    private ChampionCounters counters(int champion) {
+        ChampionCounters c = byChampion.get(champion);
+        if (c != null) return c;
+
+        byChampion.compareAndSet(champion, null, new ChampionCounters());
+        return byChampion.get(champion);
+    }
+
+    // null once max-teams distinct names have been seen (team names are free text)
+    private TeamCounters team(String name) {
+        if (name == null || name.isBlank()) return null;
+        String key = name.trim();
+
+        TeamCounters t = byTeam.get(key);
+        if (t != null || byTeam.size() >= maxTeams) return t;
+        return byTeam.computeIfAbsent(key, k -> new TeamCounters());
+    }
+
+    private static int clamp(int i, int size) {
+        return Math.max(0, Math.min(i, size - 1));
+    }
+
+    /* ---------------- QUERY ---------------- */
+
+    public AnalyticsSummary summary(int limit) {
+        long total = drafts.sum();
+
+        List<ChampionRate> rates = new ArrayList<>();
+        int n = Math.min(champions.size(), byChampion.length());
+        for (int i = 0; i < n; i++) {
+            ChampionCounters c = byChampion.get(i);
+            String id = champions.nameOf(i);
+            if (c == null || id == null) continue;
+            rates.add(ChampionRate.of(id, c.total(DraftPhase.PICK.ordinal()), c.total(DraftPhase.BAN.ordinal()), total));
+        }
+
+        return new AnalyticsSummary(total, sums(draftsByGame), top(rates, limit));
+    }
+
+    /** @return null if the champion was never picked or banned */
+    public ChampionReport champion(String championId) {
+        int champion = champions.find(championId);
+        ChampionCounters c = champion < 0 ? null : byChampion.get(champion);
+        if (c == null) return null;
+
+        int pick = DraftPhase.PICK.ordinal();
+        int ban = DraftPhase.BAN.ordinal();
+        long total = drafts.sum();
+
+        Map<DraftTurn, ChampionReport.Side> bySide = new EnumMap<>(DraftTurn.class);
+        for (DraftTurn t : DraftTurn.values()) {
+            int side = t.ordinal();
+            bySide.put(t, new ChampionReport.Side(
+                    c.total(pick, side), c.total(ban, side), c.slots(pick, side), c.slots(ban, side)));
+        }
+
+        long[] gameDrafts = sums(draftsByGame);
+        long[] gamePicks = c.games(pick);
+        long[] gameBans = c.games(ban);
+        double[] presence = new double[gameDrafts.length];
+        for (int g = 0; g < presence.length; g++) presence[g] = ChampionRate.rate(gamePicks[g] + gameBans[g], gameDrafts[g]);
+
+        return new ChampionReport(
+                ChampionRate.of(championId, c.total(pick), c.total(ban), total),
+                total,
+                bySide,
+                c.rounds(),
+                new ChampionReport.Games(gameDrafts, gamePicks, gameBans, presence)
+        );
+    }
+
+    /** @return null if the team has no completed draft */
+    public TeamReport team(String name, int limit) {
+        TeamCounters t = name == null ? null : byTeam.get(name.trim());
+        if (t == null) return null;
+
+        long teamDrafts = t.drafts.sum();
+        List<ChampionRate> rates = new ArrayList<>();
+        t.forEach((champion, picks, bans) -> {
+            String id = champions.nameOf(champion);
+            if (id != null) rates.add(ChampionRate.of(id, picks, bans, teamDrafts));
+        });
+
+        return new TeamReport(name.trim(), teamDrafts, top(rates, limit));
+    }
+
+    private static List<ChampionRate> top(List<ChampionRate> rates, int limit) {
+        rates.sort(Comparator.comparingDouble(ChampionRate::presence).reversed()
+                .thenComparing(ChampionRate::championId));
+        return rates.size() > limit ? List.copyOf(rates.subList(0, limit)) : rates;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] out = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) out[i] = adders[i].sum();
+        return out;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pete.fearless_draft.analytics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Picks and bans made by one team, for the champions it actually drafted: a sorted
+ * table of ChampionRegistry indices, grown as new ones turn up. A team touches a few
+ * dozen champions, so this stays a few hundred bytes where one slot per registry index
+ * would be 16KB a team. Locked per team; two completions for the same team at once are rare.
+ */
+final class TeamCounters {
+
+    interface Visitor {
+        void visit(int champion, long picks, long bans);
+    }
+
+    final LongAdder drafts = new LongAdder();
+
+    private int[] champions = new int[16];   // guarded by this, like the rest
+    private long[] picks = new long[16];
+    private long[] bans = new long[16];
+    private int size;
+
+    synchronized void record(int champion, boolean ban) {
+        int i = Arrays.binarySearch(champions, 0, size, champion);
+        if (i < 0) i = insert(-i - 1, champion);
+
+        if (ban) bans[i]++;
+        else picks[i]++;
+    }
+
+    // in index order
+    synchronized void forEach(Visitor visitor) {
+        for (int i = 0; i < size; i++) visitor.visit(champions[i], picks[i], bans[i]);
+    }
+
+    private int insert(int at, int champion) {
+        if (size == champions.length) {
+            int grown = size * 2;
+            champions = Arrays.copyOf(champions, grown);
+            picks = Arrays.copyOf(picks, grown);
+            bans = Arrays.copyOf(bans, grown);
+        }
+        System.arraycopy(champions, at, champions, at + 1, size - at);
+        System.arraycopy(picks, at, picks, at + 1, size - at);
+        System.arraycopy(bans, at, bans, at + 1, size - at);
+
+        champions[at] = champion;
+        picks[at] = 0;
+        bans[at] = 0;
+        size++;
+        return at;
+    }
+}
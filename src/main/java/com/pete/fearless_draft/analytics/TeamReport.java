@@ -0,0 +1,10 @@
+package com.pete.fearless_draft.analytics;
+
+import java.util.List;
+
+/** One team's own picks and bans, rates per draft that team completed. */
+public record TeamReport(
+        String team,
+        long drafts,
+        List<ChampionRate> champions
+) {}
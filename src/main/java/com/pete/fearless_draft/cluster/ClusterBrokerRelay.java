@@ -0,0 +1,83 @@
+package com.pete.fearless_draft.cluster;
+
+import com.pete.fearless_draft.DraftPresence;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * Makes the per-node simple broker look like one broker to clients.
+ *
+ * What this node publishes to /topic/** (already encoded, on the broker channel) is also
+ * sent over the bus; what other nodes send is replayed into our broker, marked so it isn't
+ * sent back out. A client connected to any node sees every draft's updates.
+ *
+ * A draft's player topics only go to the nodes with subscribers to them, which tell the
+ * owner so anyway (DRAFT_WATCHED, see DraftPresence). Other topics (spectators, lobbies)
+ * aren't tracked per node and go to every node.
+ */
+@Component
+public class ClusterBrokerRelay implements ChannelInterceptor {
+
+    static final String RELAYED_FROM = "draft-cluster-from";
+
+    private final ClusterMembership membership;
+    private final DraftEventBus bus;
+    private final DraftPresence presence;
+    private final SimpMessagingTemplate brokerMessagingTemplate;
+
+    public ClusterBrokerRelay(
+            ClusterMembership membership,
+            DraftEventBus bus,
+            DraftPresence presence,
+            @Lazy SimpMessagingTemplate brokerMessagingTemplate
+    ) {
+        this.membership = membership;
+        this.bus = bus;
+        this.presence = presence;
+        this.brokerMessagingTemplate = brokerMessagingTemplate;
+
+        bus.subscribe(this::onMessage);
+    }
+
+    /** True for a message another node published, replayed into this node's broker. */
+    public static boolean isRelayed(Message<?> message) {
+        return message.getHeaders().containsKey(RELAYED_FROM);
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || !membership.isEnabled() || isRelayed(message)) return;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith("/topic/") || !(message.getPayload() instanceof byte[] bytes)) return;
+
+        Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+        ClusterMessage relayed = new ClusterMessage(membership.nodeId(), ClusterMessage.Kind.BROADCAST, destination, 0,
+                contentType == null ? null : contentType.toString(), bytes, null);
+
+        // only the owner knows who watches a draft; anything else goes everywhere
+        String draftId = DraftPresence.playerTopicDraftId(destination);
+        if (draftId == null || !membership.owns(draftId)) {
+            bus.publish(relayed);
+            return;
+        }
+        for (String node : presence.watchingNodes(draftId)) bus.send(node, relayed);
+    }
+
+    private void onMessage(ClusterMessage m) {
+        if (m.kind() != ClusterMessage.Kind.BROADCAST) return;
+
+        MessageBuilder<byte[]> relayed = MessageBuilder.withPayload(m.payload()).setHeader(RELAYED_FROM, m.from());
+        if (m.contentType() != null) relayed.setHeader(MessageHeaders.CONTENT_TYPE, MimeType.valueOf(m.contentType()));
+
+        brokerMessagingTemplate.send(m.key(), relayed.build());
+    }
+}
@@ -0,0 +1,91 @@
+package com.pete.fearless_draft.cluster;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pete.fearless_draft.CreateDraftRequest;
+import com.pete.fearless_draft.DraftAction;
+import com.pete.fearless_draft.DraftRejection;
+import com.pete.fearless_draft.DraftTurn;
+
+/**
+ * A DraftManager / SeriesManager call forwarded to the node that owns {@code key}, or
+ * (DRAFT_REJECTED) the owner's refusal of a forwarded action, sent back to its origin.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterCommand(
+        Op op,
+        String key,             // draftId or seriesId
+        DraftTurn team,
+        String championId,
+        Boolean ready,
+        Long since,
+        DraftAction action,
+        CreateDraftRequest request,
+        String sessionId,       // the acting session, on node origin: where a refusal goes back to
+        String origin,          // ... or the node that (un)watched the draft
+        DraftRejection rejection
+) {
+    public enum Op {
+        DRAFT_GET(true),
+        DRAFT_PATCHES(true),
+        DRAFT_START(false),
+        DRAFT_PAUSE(false),
+        DRAFT_RESUME(false),
+        DRAFT_READY(false),
+        DRAFT_ACTION(false),
+        DRAFT_PREVIEW(false),
+        DRAFT_REJECTED(true),      // sent to the origin node, not the owner: nothing to order, straight to the session
+        DRAFT_ANNOUNCE(false),
+        DRAFT_WATCHED(false),      // the sending node has subscribers for the draft now
+        DRAFT_UNWATCHED(false),    // ... and now it has none
+        DRAFT_CBOR_WATCHED(false),     // same, for the CBOR copy of the draft's topics
+        DRAFT_CBOR_UNWATCHED(false),
+        SERIES_GET(true),
+        SERIES_CHAMPION_LOCKED(true),
+        SERIES_NEXT(false),
+        SERIES_ANNOUNCE(false);
+
+        // reads are answered straight from the store; everything else queues on the key's lane
+        final boolean read;
+
+        Op(boolean read) {
+            this.read = read;
+        }
+    }
+
+    public static ClusterCommand of(Op op, String key) {
+        return new ClusterCommand(op, key, null, null, null, null, null, null, null, null, null);
+    }
+
+    /** op about key, on behalf of node (DRAFT_WATCHED / DRAFT_UNWATCHED). */
+    public static ClusterCommand fromNode(Op op, String key, String node) {
+        return new ClusterCommand(op, key, null, null, null, null, null, null, null, node, null);
+    }
+
+    public static ClusterCommand ready(String draftId, DraftTurn team, boolean ready) {
+        return new ClusterCommand(Op.DRAFT_READY, draftId, team, null, ready, null, null, null, null, null, null);
+    }
+
+    public static ClusterCommand preview(String draftId, DraftTurn team, String championId) {
+        return new ClusterCommand(Op.DRAFT_PREVIEW, draftId, team, championId, null, null, null, null, null, null, null);
+    }
+
+    public static ClusterCommand action(String draftId, DraftAction action, String sessionId, String origin) {
+        return new ClusterCommand(Op.DRAFT_ACTION, draftId, null, null, null, null, action, null, sessionId, origin, null);
+    }
+
+    public static ClusterCommand rejected(String sessionId, DraftRejection rejection) {
+        return new ClusterCommand(Op.DRAFT_REJECTED, rejection.draftId(), null, null, null, null, null, null, sessionId, null, rejection);
+    }
+
+    public static ClusterCommand patchesSince(String draftId, long since) {
+        return new ClusterCommand(Op.DRAFT_PATCHES, draftId, null, null, null, since, null, null, null, null, null);
+    }
+
+    public static ClusterCommand championLocked(String seriesId, String championId) {
+        return new ClusterCommand(Op.SERIES_CHAMPION_LOCKED, seriesId, null, championId, null, null, null, null, null, null, null);
+    }
+
+    public static ClusterCommand nextGame(String seriesId, CreateDraftRequest request) {
+        return new ClusterCommand(Op.SERIES_NEXT, seriesId, null, null, null, null, null, request, null, null, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.pete.fearless_draft.cluster;
+
+import com.pete.fearless_draft.DraftBroadcaster;
+import com.pete.fearless_draft.DraftManager;
+import com.pete.fearless_draft.DraftPresence;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import static com.pete.fearless_draft.cluster.ClusterCommand.Op.*;
+
+/**
+ * What each forwarded command does on the owning node: the same public call a local
+ * controller would make. Registered once every bean exists (the managers depend on the
+ * router, so the router can't depend on them).
+ */
+@Component
+public class ClusterCommandHandlers implements SmartInitializingSingleton {
+
+    private final ClusterRouter router;
+    private final DraftManager draftManager;
+    private final SeriesManager seriesManager;
+    private final DraftPresence presence;
+    private final DraftBroadcaster broadcaster;
+
+    public ClusterCommandHandlers(ClusterRouter router, DraftManager draftManager, SeriesManager seriesManager,
+                                  DraftPresence presence, DraftBroadcaster broadcaster) {
+        this.router = router;
+        this.draftManager = draftManager;
+        this.seriesManager = seriesManager;
+        this.presence = presence;
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        router.registerHeld(key -> draftManager.exists(key) || seriesManager.exists(key));
+
+        router.register(DRAFT_GET, c -> draftManager.get(c.key()));
+        router.register(DRAFT_PATCHES, c -> draftManager.getPatchesSince(c.key(), c.since()));
+        router.register(DRAFT_START, c -> draftManager.startDraft(c.key()));
+        router.register(DRAFT_PAUSE, c -> draftManager.pauseDraft(c.key()));
+        router.register(DRAFT_RESUME, c -> draftManager.resumeDraft(c.key()));
+        router.register(DRAFT_READY, c -> {
+            draftManager.setReady(c.key(), c.team(), c.ready());
+            return null;
+        });
+        router.register(DRAFT_ACTION, c -> {
+            draftManager.applyAction(c.key(), c.action(), System.nanoTime(), c.sessionId(), c.origin());
+            return null;
+        });
+        router.register(DRAFT_REJECTED, c -> {
+            broadcaster.reject(c.sessionId(), c.rejection());
+            return null;
+        });
+        router.register(DRAFT_PREVIEW, c -> {
+            draftManager.setPreview(c.key(), c.team(), c.championId());
+            return null;
+        });
+        router.register(DRAFT_ANNOUNCE, c -> {
+            draftManager.announce(c.key());
+            return null;
+        });
+        router.register(DRAFT_WATCHED, c -> {
+            presence.remoteWatch(c.key(), c.origin(), true);
+            return null;
+        });
+        router.register(DRAFT_UNWATCHED, c -> {
+            presence.remoteWatch(c.key(), c.origin(), false);
+            return null;
+        });
+        router.register(DRAFT_CBOR_WATCHED, c -> {
+            presence.remoteWatchCbor(c.key(), true);
+            return null;
+        });
+        router.register(DRAFT_CBOR_UNWATCHED, c -> {
+            presence.remoteWatchCbor(c.key(), false);
+            return null;
+        });
+        router.register(SERIES_GET, c -> seriesManager.getSeries(c.key()));
+        router.register(SERIES_CHAMPION_LOCKED, c -> seriesManager.isChampionLocked(c.key(), c.championId()));
+        router.register(SERIES_NEXT, c -> seriesManager.nextGame(c.key(), c.request()));
+        router.register(SERIES_ANNOUNCE, c -> {
+            seriesManager.announce(c.key());
+            return null;
+        });
+    }
+}
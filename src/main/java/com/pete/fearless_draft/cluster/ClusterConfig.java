@@ -0,0 +1,24 @@
+package com.pete.fearless_draft.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClusterConfig {
+
+    /**
+     * Transport between nodes (draft.cluster.transport). Only "loopback" (nodes in one JVM)
+     * exists so far; a networked one plugs in here behind the same interface.
+     */
+    @Bean
+    public DraftEventBus draftEventBus(
+            ClusterMembership membership,
+            @Value("${draft.cluster.transport:loopback}") String transport
+    ) {
+        if (!membership.isEnabled()) return DraftEventBus.LOCAL;
+
+        if ("loopback".equals(transport)) return new LoopbackEventBus(membership.nodeId());
+        throw new IllegalArgumentException("Unknown draft.cluster.transport: " + transport);
+    }
+}
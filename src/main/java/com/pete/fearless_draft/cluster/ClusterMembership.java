@@ -0,0 +1,101 @@
+package com.pete.fearless_draft.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Which node owns which draft or series.
+ *
+ * Ownership is rendezvous (highest-random-weight) hashing of the id over the configured
+ * node list: every node computes the same owner with no coordination, and adding a node
+ * only moves the ids that node now wins. With clustering off this node owns everything.
+ *
+ *   draft.cluster.enabled=true
+ *   draft.cluster.node-id=node-a
+ *   draft.cluster.nodes=node-a,node-b,node-c
+ */
+@Component
+public class ClusterMembership {
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final List<String> nodes;
+    private final long[] nodeSeeds;
+
+    public ClusterMembership(
+            @Value("${draft.cluster.enabled:false}") boolean enabled,
+            @Value("${draft.cluster.node-id:local}") String nodeId,
+            @Value("${draft.cluster.nodes:}") List<String> nodes
+    ) {
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.nodes = enabled ? List.copyOf(nodes) : List.of(nodeId);
+
+        if (!this.nodes.contains(nodeId)) {
+            throw new IllegalArgumentException("draft.cluster.nodes " + this.nodes + " does not include this node (" + nodeId + ")");
+        }
+
+        this.nodeSeeds = new long[this.nodes.size()];
+        for (int i = 0; i < nodeSeeds.length; i++) nodeSeeds[i] = hash(this.nodes.get(i));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public boolean owns(String key) {
+        return !enabled || nodeId.equals(ownerOf(key));
+    }
+
+    public String ownerOf(String key) {
+        long keyHash = hash(key);
+
+        int best = 0;
+        long bestScore = Long.MIN_VALUE;
+        for (int i = 0; i < nodeSeeds.length; i++) {
+            long score = mix(keyHash ^ nodeSeeds[i]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return nodes.get(best);
+    }
+
+    /**
+     * A fresh id this node owns, so whatever it creates (a draft, a series and its games)
+     * lives here without a hop. Takes ~N tries for N nodes.
+     */
+    public String newLocalId() {
+        while (true) {
+            String id = UUID.randomUUID().toString();
+            if (owns(id)) return id;
+        }
+    }
+
+    private static long hash(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        long h = 0x9E3779B97F4A7C15L;
+        for (byte b : bytes) h = (h ^ b) * 0x100000001B3L;
+        return mix(h);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,20 @@
+package com.pete.fearless_draft.cluster;
+
+/**
+ * What travels between nodes. Transport-neutral: ids, a kind and an opaque payload.
+ *
+ *   BROADCAST  key = broker destination, payload = the already-encoded message body
+ *   COMMAND    key = draft/series id,    payload = ClusterCommand JSON; correlationId 0 = no reply wanted
+ *   REPLY      payload = result JSON, or error set and key = exception type
+ */
+public record ClusterMessage(
+        String from,
+        Kind kind,
+        String key,
+        long correlationId,
+        String contentType,
+        byte[] payload,
+        String error
+) {
+    public enum Kind { BROADCAST, COMMAND, REPLY }
+}
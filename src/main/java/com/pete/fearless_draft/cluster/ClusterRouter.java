@@ -0,0 +1,198 @@
+package com.pete.fearless_draft.cluster;
+
+import com.pete.fearless_draft.DraftLanes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Sends calls for drafts/series this node doesn't own to the node that does, and runs the
+ * ones other nodes send here.
+ *
+ * Incoming mutations run on the key's lane, so a forwarded click is ordered with local
+ * ones exactly like a click that arrived here. Reads are answered on the receive thread. The handler is the same public
+ * DraftManager / SeriesManager method a local caller would use (see ClusterCommandHandlers).
+ * A mutation for a key this node doesn't hold runs on the receive thread too: the handler
+ * refuses it without queueing, so ids a client makes up never get a lane.
+ */
+@Component
+public class ClusterRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRouter.class);
+
+    private static final int FORWARDED_ONCE_MAX = 10_000;
+
+    private final ClusterMembership membership;
+    private final DraftEventBus bus;
+    private final DraftLanes lanes;
+    private final JsonMapper jsonMapper;
+    private final Duration requestTimeout;
+
+    private final Map<ClusterCommand.Op, Function<ClusterCommand, Object>> handlers = new EnumMap<>(ClusterCommand.Op.class);
+    private final Map<Long, CompletableFuture<ClusterMessage>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong correlationIds = new AtomicLong();
+    private volatile Predicate<String> held = key -> true;
+
+    // "op key" of what forwardOnce already sent; forgotten wholesale when it fills up
+    private final Set<String> forwardedOnce = ConcurrentHashMap.newKeySet();
+
+    public ClusterRouter(
+            ClusterMembership membership,
+            DraftEventBus bus,
+            DraftLanes lanes,
+            JsonMapper jsonMapper,
+            @Value("${draft.cluster.request-timeout:5s}") Duration requestTimeout
+    ) {
+        this.membership = membership;
+        this.bus = bus;
+        this.lanes = lanes;
+        this.jsonMapper = jsonMapper;
+        this.requestTimeout = requestTimeout;
+
+        bus.subscribe(this::onMessage);
+    }
+
+    public boolean owns(String key) {
+        return membership.owns(key);
+    }
+
+    public String newLocalId() {
+        return membership.newLocalId();
+    }
+
+    public String nodeId() {
+        return membership.nodeId();
+    }
+
+    void register(ClusterCommand.Op op, Function<ClusterCommand, Object> handler) {
+        handlers.put(op, handler);
+    }
+
+    /** Which keys (drafts, series) this node holds: only those get a lane for incoming mutations. */
+    void registerHeld(Predicate<String> held) {
+        this.held = held;
+    }
+
+    /* ---------------- OUTGOING ---------------- */
+
+    /** Fire-and-forget to the owner (clicks, ready toggles, previews). */
+    public void forward(ClusterCommand command) {
+        bus.send(membership.ownerOf(command.key()), message(command, 0));
+    }
+
+    /** Fire-and-forget to a given node rather than the key's owner (a refusal back to the click's origin). */
+    public void sendTo(String node, ClusterCommand command) {
+        bus.send(node, message(command, 0));
+    }
+
+    /**
+     * {@link #forward}, but only the first time for this op and key: for calls the owner acts
+     * on at most once anyway (lobby announces), which would otherwise cost a message for
+     * every subscriber here. Remembers up to FORWARDED_ONCE_MAX; past that one may repeat.
+     */
+    public void forwardOnce(ClusterCommand command) {
+        if (forwardedOnce.size() >= FORWARDED_ONCE_MAX) forwardedOnce.clear();
+        if (forwardedOnce.add(command.op() + " " + command.key())) forward(command);
+    }
+
+    /** Ask the owner and wait for its answer. Failures on the owner are rethrown here. */
+    public <T> T request(ClusterCommand command, Class<T> type) {
+        return jsonMapper.readValue(await(command), type);
+    }
+
+    public <T> T request(ClusterCommand command, TypeReference<T> type) {
+        return jsonMapper.readValue(await(command), type);
+    }
+
+    private byte[] await(ClusterCommand command) {
+        long id = correlationIds.incrementAndGet();
+        CompletableFuture<ClusterMessage> reply = new CompletableFuture<>();
+        pending.put(id, reply);
+
+        try {
+            bus.send(membership.ownerOf(command.key()), message(command, id));
+            ClusterMessage m = reply.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            if (m.error() != null) {
+                if (IllegalStateException.class.getSimpleName().equals(m.key())) throw new IllegalStateException(m.error());
+                throw new IllegalArgumentException(m.error());
+            }
+            return m.payload();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("No answer from " + membership.ownerOf(command.key()) + " for " + command.op() + " " + command.key());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + command.op() + " " + command.key());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    private ClusterMessage message(ClusterCommand command, long correlationId) {
+        return new ClusterMessage(membership.nodeId(), ClusterMessage.Kind.COMMAND, command.key(), correlationId,
+                null, jsonMapper.writeValueAsBytes(command), null);
+    }
+
+    /* ---------------- INCOMING ---------------- */
+
+    private void onMessage(ClusterMessage m) {
+        switch (m.kind()) {
+            case COMMAND -> {
+                ClusterCommand command = jsonMapper.readValue(m.payload(), ClusterCommand.class);
+                if (command.op().read || !held.test(command.key())) handle(m, command);
+                else lanes.execute(command.key(), () -> handle(m, command));
+            }
+            case REPLY -> {
+                CompletableFuture<ClusterMessage> reply = pending.get(m.correlationId());
+                if (reply != null) reply.complete(m);
+            }
+            case BROADCAST -> { }   // ClusterBrokerRelay
+        }
+    }
+
+    private void handle(ClusterMessage m, ClusterCommand command) {
+        Function<ClusterCommand, Object> handler = handlers.get(command.op());
+
+        Object result;
+        try {
+            if (handler == null) throw new IllegalStateException("No handler for " + command.op());
+            result = handler.apply(command);
+        } catch (RuntimeException e) {
+            if (m.correlationId() == 0) throw e;    // logged by the lane / bus
+            reply(m, null, e);
+            return;
+        }
+
+        if (m.correlationId() != 0) reply(m, result, null);
+    }
+
+    private void reply(ClusterMessage to, Object result, RuntimeException failure) {
+        ClusterMessage reply = failure == null
+                ? new ClusterMessage(membership.nodeId(), ClusterMessage.Kind.REPLY, null, to.correlationId(),
+                        null, jsonMapper.writeValueAsBytes(result), null)
+                : new ClusterMessage(membership.nodeId(), ClusterMessage.Kind.REPLY,
+                        failure instanceof IllegalStateException ? IllegalStateException.class.getSimpleName() : null,
+                        to.correlationId(), null, null, String.valueOf(failure.getMessage()));
+
+        if (failure != null) log.debug("Cluster: {} from {} failed: {}", to.key(), to.from(), failure.getMessage());
+        bus.send(to.from(), reply);
+    }
+}
@@ -0,0 +1,26 @@
+package com.pete.fearless_draft.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Node-to-node pub/sub. Per sender/receiver pair, messages arrive in the order sent.
+ * Delivery is best effort; callers that need an answer time out (see ClusterRouter).
+ */
+public interface DraftEventBus {
+
+    /** To every other node. */
+    void publish(ClusterMessage message);
+
+    /** To one node. */
+    void send(String nodeId, ClusterMessage message);
+
+    /** Messages addressed to this node, or published by another one. */
+    void subscribe(Consumer<ClusterMessage> listener);
+
+    /** Single node: nobody to talk to. */
+    DraftEventBus LOCAL = new DraftEventBus() {
+        @Override public void publish(ClusterMessage message) {}
+        @Override public void send(String nodeId, ClusterMessage message) {}
+        @Override public void subscribe(Consumer<ClusterMessage> listener) {}
+    };
+}
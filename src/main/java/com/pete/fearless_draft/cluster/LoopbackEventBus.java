@@ -0,0 +1,82 @@
+package com.pete.fearless_draft.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: every node started in this JVM registers here and messages are
+ * handed over directly. Lets a test (or a benchmark) run several nodes in one JVM.
+ *
+ * Each node receives on its own single thread, which gives the per-pair ordering the
+ * bus promises and keeps a slow receiver from stalling the sender.
+ */
+public class LoopbackEventBus implements DraftEventBus, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoopbackEventBus.class);
+
+    private static final Map<String, LoopbackEventBus> NODES = new ConcurrentHashMap<>();
+
+    private final String nodeId;
+    private final ExecutorService inbox;
+    private final List<Consumer<ClusterMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    public LoopbackEventBus(String nodeId) {
+        this.nodeId = nodeId;
+        this.inbox = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cluster-rx-" + nodeId + "-"));
+
+        if (NODES.putIfAbsent(nodeId, this) != null) {
+            inbox.shutdown();
+            throw new IllegalStateException("A loopback node named " + nodeId + " is already running");
+        }
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        for (LoopbackEventBus node : NODES.values()) {
+            if (node != this) node.deliver(message);
+        }
+    }
+
+    @Override
+    public void send(String nodeId, ClusterMessage message) {
+        LoopbackEventBus node = NODES.get(nodeId);
+        if (node == null) {
+            log.warn("Cluster: no loopback node {}, dropping {} {}", nodeId, message.kind(), message.key());
+            return;
+        }
+        node.deliver(message);
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(ClusterMessage message) {
+        inbox.execute(() -> {
+            for (Consumer<ClusterMessage> l : listeners) {
+                try {
+                    l.accept(message);
+                } catch (RuntimeException e) {
+                    log.warn("Cluster: {} failed handling {} {}: {}", nodeId, message.kind(), message.key(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        NODES.remove(nodeId, this);
+        inbox.shutdown();
+    }
+}
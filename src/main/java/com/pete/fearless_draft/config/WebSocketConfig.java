@@ -1,22 +1,103 @@
 package com.pete.fearless_draft.config;
 
+import com.pete.fearless_draft.cluster.ClusterBrokerRelay;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import com.pete.fearless_draft.ws.ConflatingSessionFactory;
+import com.pete.fearless_draft.ws.DraftAdmission;
+import com.pete.fearless_draft.ws.DraftPresenceInterceptor;
+import com.pete.fearless_draft.ws.LobbyAnnouncer;
+import com.pete.fearless_draft.ws.StompEncodingInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final DraftMetrics metrics;
+    private final ClusterBrokerRelay clusterRelay;
+    private final StompEncodingInterceptor encodingInterceptor;
+    private final LobbyAnnouncer lobbyAnnouncer;
+    private final DraftPresenceInterceptor presenceInterceptor;
+    private final DraftAdmission admission;
+    private final ConflatingSessionFactory conflatingSessions;
+    private final boolean virtualThreads;
+
+    /*
+     * Inbound/outbound channels run on Boot's applicationTaskExecutor, which becomes
+     * virtual-thread-per-task with spring.threads.virtual.enabled=true (Tomcat too).
+     * Without a bounded pool, two frames from one session can overtake each other, so
+     * in that mode we ask Spring to keep per-session order in both directions.
+     */
+    public WebSocketConfig(
+            DraftMetrics metrics,
+            ClusterBrokerRelay clusterRelay,
+            StompEncodingInterceptor encodingInterceptor,
+            LobbyAnnouncer lobbyAnnouncer,
+            DraftPresenceInterceptor presenceInterceptor,
+            DraftAdmission admission,
+            ConflatingSessionFactory conflatingSessions,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.metrics = metrics;
+        this.clusterRelay = clusterRelay;
+        this.encodingInterceptor = encodingInterceptor;
+        this.lobbyAnnouncer = lobbyAnnouncer;
+        this.presenceInterceptor = presenceInterceptor;
+        this.admission = admission;
+        this.conflatingSessions = conflatingSessions;
+        this.virtualThreads = virtualThreads;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // Clients subscribe here
-        registry.enableSimpleBroker("/topic");
+        // Count what we publish to draft topics (payload is already serialized here); what
+        // other nodes relay in was counted where it was published
+        registry.configureBrokerChannel().interceptors(new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                if (sent && destination != null && !ClusterBrokerRelay.isRelayed(message)
+                        && (destination.startsWith("/topic/draft/") || destination.startsWith("/topic/cbor/draft/"))
+                        && message.getPayload() instanceof byte[] bytes) {
+                    metrics.broadcastSent(bytes.length);
+                }
+            }
+        }, clusterRelay);   // cluster mode: share /topic/** with the other nodes' brokers
+
+        // Clients subscribe here; /queue only carries per-session replies (/user/queue/time)
+        registry.enableSimpleBroker("/topic", "/queue");
 
         // Messages sent from client must start with /app
         registry.setApplicationDestinationPrefixes("/app");
+
+        registry.setPreservePublishOrder(virtualThreads);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // SEND to /app/draft/* over the session's budget -> dropped before anything else runs;
+        // CONNECT "draft-encoding: cbor" -> draft subscriptions get CBOR payloads;
+        // SUBSCRIBE / UNSUBSCRIBE / DISCONNECT on player topics -> DraftPresence (counted
+        // before the lobby broadcast below, so it isn't skipped as unwatched);
+        // first SUBSCRIBE to a bulk-provisioned draft/series -> its deferred lobby broadcast
+        registration.interceptors(admission, encodingInterceptor, presenceInterceptor, lobbyAnnouncer);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // slow consumers: per-session bounded buffer, newest full state wins (ConflatingSessionDecorator)
+        registration.addDecoratorFactory(conflatingSessions);
     }
 
     @Override
@@ -24,5 +105,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket connection endpoint
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*");
+
+        registry.setPreserveReceiveOrder(virtualThreads);
     }
 }
@@ -0,0 +1,366 @@
+package com.pete.fearless_draft.journal;
+
+import com.pete.fearless_draft.DraftClock;
+import com.pete.fearless_draft.DraftState;
+import com.pete.fearless_draft.series.SeriesState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of draft and series state, so a redeploy doesn't lose live drafts
+ * or fearless lock sets.
+ *
+ * Callers only enqueue the (immutable) state; a single writer thread encodes, appends with
+ * group commit and fsyncs per {@link FsyncPolicy}. Frame layout:
+ *
+ *   int length | int crc32(type + payload) | byte type | payload (JSON)
+ *
+ * Frames are read leniently: a primitive field missing from an older frame (pausedAt, say)
+ * comes back as 0 rather than failing the whole replay.
+ *
+ * Replay keeps the last frame per id and stops at the first torn or corrupt frame, so a
+ * write that fails partway is cut back to the last whole frame before anything else is
+ * appended. On startup the journal is rewritten to one frame per live id, so it only grows
+ * with what happened since the last boot.
+ *
+ * The queue is bounded (draft.journal.queue-capacity) and callers never wait for it: if the
+ * disk can't keep up, the id is marked dirty and its entry parked in an overflow map, where
+ * later changes to it replace it. Every entry is the whole state, so the writer catches up
+ * with one frame per dirty id once the queue has drained, and nothing committed is skipped.
+ */
+@Component
+public class DraftJournal implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftJournal.class);
+
+    private static final int HEADER_BYTES = 4 + 4 + 1;
+    private static final int MAX_BATCH = 1024;
+    private static final long POLL_MS = 100;
+
+    private final boolean enabled;
+    private final Path path;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMs;
+    private final JsonMapper jsonMapper;
+    private final DraftClock clock;
+
+    private final BlockingQueue<Object> queue;
+    // dirty ids ("d:" or "s:" + id) -> their latest entry, for what didn't fit in the queue
+    private final Map<String, Object> overflow = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+
+    private FileChannel channel;
+    private long end;       // writer only: offset just past the last whole frame
+    private boolean torn;   // writer only: a write failed and the tail past end isn't cut off yet
+    private Thread writer;
+    private volatile boolean running;
+    private long lastFsyncAt;
+
+    public DraftJournal(
+            @Value("${draft.journal.enabled:false}") boolean enabled,
+            @Value("${draft.journal.path:data/draft-journal.log}") Path path,
+            @Value("${draft.journal.fsync:EVERY_BATCH}") FsyncPolicy fsyncPolicy,
+            @Value("${draft.journal.fsync-interval-ms:1000}") long fsyncIntervalMs,
+            @Value("${draft.journal.queue-capacity:65536}") int queueCapacity,
+            JsonMapper jsonMapper,
+            DraftClock clock
+    ) {
+        this.enabled = enabled;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.path = path;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMs = fsyncIntervalMs;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /* ---------------- APPEND (any thread) ---------------- */
+
+    public void draftChanged(DraftState state) {
+        if (enabled) enqueue(state);
+    }
+
+    public void seriesChanged(SeriesState state) {
+        if (enabled) enqueue(state);
+    }
+
+    public void draftRemoved(String draftId) {
+        if (enabled) enqueue(new Tombstone(JournalEntryType.DRAFT_REMOVED, draftId));
+    }
+
+    public void seriesRemoved(String seriesId) {
+        if (enabled) enqueue(new Tombstone(JournalEntryType.SERIES_REMOVED, seriesId));
+    }
+
+    // Never blocks the caller (a draft's lane). Once an id is dirty its changes all go to the
+    // overflow until the writer takes it, so nothing older can be queued behind it.
+    private void enqueue(Object entry) {
+        String key = keyOf(entry);
+        if (overflow.computeIfPresent(key, (k, older) -> entry) != null) return;
+        if (queue.offer(entry)) return;
+
+        overflow.put(key, entry);
+        if (overflowing.compareAndSet(false, true)) {
+            log.warn("Draft journal queue full; parking the latest state per id until the writer catches up");
+        }
+    }
+
+    private record Tombstone(JournalEntryType type, String id) {}
+
+    // a removal shares its id's key: whichever came last is what the journal should say
+    private static String keyOf(Object entry) {
+        if (entry instanceof DraftState d) return "d:" + d.draftId();
+        if (entry instanceof SeriesState s) return "s:" + s.seriesId();
+        if (entry instanceof Tombstone t) return (t.type() == JournalEntryType.DRAFT_REMOVED ? "d:" : "s:") + t.id();
+        throw new IllegalArgumentException("Not a journal entry: " + entry.getClass());
+    }
+
+    /* ---------------- STARTUP ---------------- */
+
+    /**
+     * Replay the journal, compact it down to the recovered state and start appending.
+     * Called once by JournalRecovery before the app takes traffic.
+     */
+    public JournalSnapshot recoverAndOpen() {
+        if (!enabled) return new JournalSnapshot(Map.of(), Map.of(), 0, 0);
+
+        try {
+            JournalSnapshot snapshot = replay(path, jsonMapper);
+            compact(snapshot);
+
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            end = channel.size();
+            running = true;
+            writer = new Thread(this::writeLoop, "draft-journal");
+            writer.setDaemon(true);
+            writer.start();
+
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open draft journal " + path, e);
+        }
+    }
+
+    public static JournalSnapshot replay(Path path, JsonMapper jsonMapper) throws IOException {
+        Map<String, DraftState> drafts = new LinkedHashMap<>();
+        Map<String, SeriesState> series = new LinkedHashMap<>();
+        if (!Files.exists(path)) return new JournalSnapshot(drafts, series, 0, 0);
+
+        int events = 0;
+        long valid = 0;
+        ObjectReader draftReader = lenient(jsonMapper, DraftState.class);
+        ObjectReader seriesReader = lenient(jsonMapper, SeriesState.class);
+
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            CRC32 crc = new CRC32();
+
+            while (buf.remaining() >= HEADER_BYTES) {
+                int start = buf.position();
+                int length = buf.getInt();
+                int expectedCrc = buf.getInt();
+                if (length <= 0 || length > buf.remaining() - 1) break;
+
+                byte type = buf.get();
+                if (type < 0 || type >= JournalEntryType.values().length) break;
+
+                byte[] payload = new byte[length];
+                buf.get(payload);
+
+                crc.reset();
+                crc.update(type);
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    log.warn("Draft journal: bad checksum at offset {}, ignoring the rest", start);
+                    break;
+                }
+
+                switch (JournalEntryType.values()[type]) {
+                    case DRAFT -> {
+                        DraftState d = draftReader.readValue(payload);
+                        drafts.put(d.draftId(), d);
+                    }
+                    case SERIES -> {
+                        SeriesState s = seriesReader.readValue(payload);
+                        series.put(s.seriesId(), s);
+                    }
+                    case DRAFT_REMOVED -> drafts.remove(new String(payload, StandardCharsets.UTF_8));
+                    case SERIES_REMOVED -> series.remove(new String(payload, StandardCharsets.UTF_8));
+                }
+
+                events++;
+                valid = buf.position();
+            }
+        }
+
+        return new JournalSnapshot(drafts, series, events, valid);
+    }
+
+    private static ObjectReader lenient(JsonMapper jsonMapper, Class<?> type) {
+        return jsonMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+
+    private void compact(JournalSnapshot snapshot) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<Object> live = new ArrayList<>(snapshot.series().values());
+            live.addAll(snapshot.drafts().values());
+            for (int i = 0; i < live.size(); i += MAX_BATCH) {
+                writeFully(out, encode(live.subList(i, Math.min(live.size(), i + MAX_BATCH))));
+            }
+            out.force(true);
+        }
+
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /* ---------------- WRITER THREAD ---------------- */
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+
+        while (running || !queue.isEmpty() || !overflow.isEmpty()) {
+            try {
+                Object first = overflow.isEmpty() ? queue.poll(POLL_MS, TimeUnit.MILLISECONDS) : queue.poll();
+                if (first != null) batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - batch.size());
+                if (queue.isEmpty()) drainOverflow(batch);
+
+                boolean wrote = !batch.isEmpty();
+                if (wrote) {
+                    append(encode(batch));
+                    batch.clear();
+                }
+                maybeFsync(wrote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.error("Draft journal write failed; {} entries dropped", batch.size(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    // Only once the queue is empty: whatever was queued for a dirty id is older than its
+    // overflow entry, and has to be written first.
+    private void drainOverflow(List<Object> batch) {
+        for (Iterator<String> keys = overflow.keySet().iterator(); keys.hasNext() && batch.size() < MAX_BATCH; ) {
+            Object entry = overflow.remove(keys.next());
+            if (entry != null) batch.add(entry);
+        }
+        if (overflow.isEmpty()) overflowing.set(false);
+    }
+
+    // A failed write can leave part of a frame behind, and replay stops there: everything
+    // appended after it would be lost. Cut it off first (retried each batch until it works).
+    private void append(ByteBuffer frames) throws IOException {
+        if (torn) {
+            channel.truncate(end);
+            torn = false;
+        }
+        torn = true;
+        writeFully(channel, frames);
+        end += frames.limit();
+        torn = false;
+    }
+
+    private void maybeFsync(boolean wrote) throws IOException {
+        if (fsyncPolicy == FsyncPolicy.NEVER) return;
+
+        long now = clock.now();
+        if (fsyncPolicy == FsyncPolicy.EVERY_BATCH) {
+            if (wrote) channel.force(false);
+            lastFsyncAt = now;
+            return;
+        }
+
+        if (now - lastFsyncAt >= fsyncIntervalMs) {
+            channel.force(false);
+            lastFsyncAt = now;
+        }
+    }
+
+    private ByteBuffer encode(List<Object> entries) {
+        List<byte[]> payloads = new ArrayList<>(entries.size());
+        int total = 0;
+        for (Object e : entries) {
+            byte[] p = e instanceof Tombstone t
+                    ? t.id().getBytes(StandardCharsets.UTF_8)
+                    : jsonMapper.writeValueAsBytes(e);
+            payloads.add(p);
+            total += HEADER_BYTES + p.length;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(total);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < entries.size(); i++) {
+            byte type = (byte) typeOf(entries.get(i)).ordinal();
+            byte[] p = payloads.get(i);
+
+            crc.reset();
+            crc.update(type);
+            crc.update(p);
+
+            buf.putInt(p.length).putInt((int) crc.getValue()).put(type).put(p);
+        }
+        return buf.flip();
+    }
+
+    private static JournalEntryType typeOf(Object entry) {
+        if (entry instanceof DraftState) return JournalEntryType.DRAFT;
+        if (entry instanceof SeriesState) return JournalEntryType.SERIES;
+        if (entry instanceof Tombstone t) return t.type();
+        throw new IllegalArgumentException("Not a journal entry: " + entry.getClass());
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (writer == null) return;
+
+        // no interrupt: an interrupted FileChannel closes itself mid-write
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        if (torn) channel.truncate(end);
+        channel.force(true);
+        channel.close();
+    }
+}
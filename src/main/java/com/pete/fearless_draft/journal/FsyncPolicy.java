@@ -0,0 +1,7 @@
+package com.pete.fearless_draft.journal;
+
+public enum FsyncPolicy {
+    EVERY_BATCH,   // force() after every group commit; safest, slowest
+    INTERVAL,      // force() at most every draft.journal.fsync-interval-ms
+    NEVER          // leave it to the OS; survives a JVM crash, not a host crash
+}
@@ -0,0 +1,8 @@
+package com.pete.fearless_draft.journal;
+
+public enum JournalEntryType {
+    DRAFT,            // DraftState upsert
+    SERIES,           // SeriesState upsert
+    DRAFT_REMOVED,    // draftId (UTF-8), evicted by retention
+    SERIES_REMOVED    // seriesId (UTF-8), evicted by retention
+}
@@ -0,0 +1,45 @@
+package com.pete.fearless_draft.journal;
+
+import com.pete.fearless_draft.DraftManager;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds drafts and series from the journal once every bean exists but before the
+ * web server starts accepting connections, then re-arms turn timers.
+ */
+@Component
+public class JournalRecovery implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalRecovery.class);
+
+    private final DraftJournal journal;
+    private final DraftManager draftManager;
+    private final SeriesManager seriesManager;
+
+    public JournalRecovery(DraftJournal journal, DraftManager draftManager, SeriesManager seriesManager) {
+        this.journal = journal;
+        this.draftManager = draftManager;
+        this.seriesManager = seriesManager;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!journal.isEnabled()) return;
+
+        long started = System.nanoTime();
+        JournalSnapshot snapshot = journal.recoverAndOpen();
+
+        seriesManager.restore(snapshot.series().values());
+        draftManager.restore(snapshot.drafts().values());
+
+        log.info("Draft journal: replayed {} events into {} drafts and {} series in {} ms",
+                snapshot.events(),
+                snapshot.drafts().size(),
+                snapshot.series().size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
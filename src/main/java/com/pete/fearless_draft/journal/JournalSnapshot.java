@@ -0,0 +1,14 @@
+package com.pete.fearless_draft.journal;
+
+import com.pete.fearless_draft.DraftState;
+import com.pete.fearless_draft.series.SeriesState;
+
+import java.util.Map;
+
+/** Latest state per draft / series as rebuilt from the journal. */
+public record JournalSnapshot(
+        Map<String, DraftState> drafts,
+        Map<String, SeriesState> series,
+        int events,        // frames replayed
+        long validBytes    // where the last good frame ends; anything after is a torn write
+) {}
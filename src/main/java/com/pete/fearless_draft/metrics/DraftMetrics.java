@@ -0,0 +1,178 @@
+package com.pete.fearless_draft.metrics;
+
+import com.pete.fearless_draft.RejectReason;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on counters for the draft hot path. Everything here is a LongAdder or a
+ * LatencyHistogram: lock-free and allocation-free per event.
+ */
+@Component
+public class DraftMetrics {
+
+    // inbound /app/draft/action -> broadcast handed to the broker, in microseconds
+    private final LatencyHistogram actionToBroadcastMicros = new LatencyHistogram();
+
+    // how late onTurnTimeout ran vs turnStartedAt + duration, in milliseconds
+    private final LatencyHistogram timerDriftMillis = new LatencyHistogram();
+
+    // serialized size of each /topic/draft/** message, in bytes
+    private final LatencyHistogram broadcastBytes = new LatencyHistogram();
+    private final LongAdder broadcastMessages = new LongAdder();
+    private final LongAdder broadcastBytesTotal = new LongAdder();
+
+    // DraftPresence: what drafts without players didn't cost
+    private final LongAdder broadcastsSkipped = new LongAdder();
+    private final LongAdder draftsAutoPaused = new LongAdder();
+    private final LongAdder draftsAutoResumed = new LongAdder();
+
+    // ConflatingSessionDecorator: waiting frames replaced by a newer state, sessions dropped as too slow
+    private final LongAdder framesConflated = new LongAdder();
+    private final LongAdder slowSessionsClosed = new LongAdder();
+
+    // DraftAdmission: inbound /app/draft/* dropped over a session's budget, overall or on one draft (actions include ready)
+    private final LongAdder previewsShedBySession = new LongAdder();
+    private final LongAdder previewsShedByDraft = new LongAdder();
+    private final LongAdder actionsShedBySession = new LongAdder();
+    private final LongAdder actionsShedByDraft = new LongAdder();
+
+    private final LongAdder actionsApplied = new LongAdder();
+    private final LongAdder timeoutsFired = new LongAdder();
+    private final LongAdder[] rejected = new LongAdder[RejectReason.values().length];
+
+    public DraftMetrics() {
+        for (int i = 0; i < rejected.length; i++) rejected[i] = new LongAdder();
+    }
+
+    public void actionApplied(long receivedAtNanos) {
+        actionsApplied.increment();
+        actionToBroadcastMicros.record((System.nanoTime() - receivedAtNanos) / 1_000);
+    }
+
+    public void timeoutFired(long scheduledFireAtMillis, long nowMillis) {
+        timeoutsFired.increment();
+        timerDriftMillis.record(nowMillis - scheduledFireAtMillis);
+    }
+
+    public void broadcastSent(int bytes) {
+        broadcastMessages.increment();
+        broadcastBytesTotal.add(bytes);
+        broadcastBytes.record(bytes);
+    }
+
+    public void broadcastSkipped() {
+        broadcastsSkipped.increment();
+    }
+
+    public void draftAutoPaused() {
+        draftsAutoPaused.increment();
+    }
+
+    public void draftAutoResumed() {
+        draftsAutoResumed.increment();
+    }
+
+    public void frameConflated() {
+        framesConflated.increment();
+    }
+
+    public void slowSessionClosed() {
+        slowSessionsClosed.increment();
+    }
+
+    public void previewShedBySession() {
+        previewsShedBySession.increment();
+    }
+
+    public void previewShedByDraft() {
+        previewsShedByDraft.increment();
+    }
+
+    public void actionShedBySession() {
+        actionsShedBySession.increment();
+    }
+
+    public void actionShedByDraft() {
+        actionsShedByDraft.increment();
+    }
+
+    public void rejected(RejectReason reason) {
+        rejected[reason.ordinal()].increment();
+    }
+
+    /* ---------------- READ ---------------- */
+
+    public LatencyHistogram.Snapshot actionToBroadcastMicros() {
+        return actionToBroadcastMicros.snapshot();
+    }
+
+    public LatencyHistogram.Snapshot timerDriftMillis() {
+        return timerDriftMillis.snapshot();
+    }
+
+    public LatencyHistogram.Snapshot broadcastBytes() {
+        return broadcastBytes.snapshot();
+    }
+
+    public long broadcastMessages() {
+        return broadcastMessages.sum();
+    }
+
+    public long broadcastBytesTotal() {
+        return broadcastBytesTotal.sum();
+    }
+
+    public long broadcastsSkipped() {
+        return broadcastsSkipped.sum();
+    }
+
+    public long draftsAutoPaused() {
+        return draftsAutoPaused.sum();
+    }
+
+    public long draftsAutoResumed() {
+        return draftsAutoResumed.sum();
+    }
+
+    public long framesConflated() {
+        return framesConflated.sum();
+    }
+
+    public long slowSessionsClosed() {
+        return slowSessionsClosed.sum();
+    }
+
+    public long previewsShedBySession() {
+        return previewsShedBySession.sum();
+    }
+
+    public long previewsShedByDraft() {
+        return previewsShedByDraft.sum();
+    }
+
+    public long actionsShedBySession() {
+        return actionsShedBySession.sum();
+    }
+
+    public long actionsShedByDraft() {
+        return actionsShedByDraft.sum();
+    }
+
+    public long actionsApplied() {
+        return actionsApplied.sum();
+    }
+
+    public long timeoutsFired() {
+        return timeoutsFired.sum();
+    }
+
+    public Map<RejectReason, Long> rejectedByReason() {
+        Map<RejectReason, Long> out = new EnumMap<>(RejectReason.class);
+        for (RejectReason r : RejectReason.values()) out.put(r, rejected[r.ordinal()].sum());
+        return out;
+    }
+}
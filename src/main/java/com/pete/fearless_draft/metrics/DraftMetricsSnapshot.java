@@ -0,0 +1,43 @@
+package com.pete.fearless_draft.metrics;
+
+import com.pete.fearless_draft.RejectReason;
+
+import java.util.Map;
+
+public record DraftMetricsSnapshot(
+        // gauges
+        int activeDrafts,
+        int lobbyDrafts,
+        int completeDrafts,
+        int liveSeries,
+
+        // hot path
+        long actionsApplied,
+        long timeoutsFired,
+        LatencyHistogram.Snapshot actionToBroadcastMicros,
+        LatencyHistogram.Snapshot timerDriftMillis,
+
+        // broadcasts
+        long broadcastMessages,
+        long broadcastBytesTotal,
+        LatencyHistogram.Snapshot broadcastBytes,
+
+        // presence: drafts with players vs left behind, and what that saved
+        int watchedDrafts,
+        int abandonedDrafts,
+        long broadcastsSkipped,
+        long draftsAutoPaused,
+        long draftsAutoResumed,
+
+        // slow consumers
+        long framesConflated,
+        long slowSessionsClosed,
+
+        // admission control: inbound frames dropped before DraftManager
+        long previewsShedBySession,
+        long previewsShedByDraft,
+        long actionsShedBySession,
+        long actionsShedByDraft,
+
+        Map<RejectReason, Long> rejectedActions
+) {}
@@ -0,0 +1,82 @@
+package com.pete.fearless_draft.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram: exact below 16, then 8 buckets per power of two
+ * (~12% relative error). Recording is one atomic increment plus adders, no allocation.
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 16;
+    private static final int SUB_BITS = 3;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = LINEAR + (63 - 4) * SUB;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+
+        long m = max.get();
+        while (value > m && !max.compareAndSet(m, value)) m = max.get();
+    }
+
+    static int indexOf(long v) {
+        if (v < LINEAR) return (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB - 1);
+        return LINEAR + (exp - 4) * SUB + sub;
+    }
+
+    // upper bound of a bucket, so percentiles never under-report
+    static long upperBound(int idx) {
+        if (idx < LINEAR) return idx;
+        int exp = (idx - LINEAR) / SUB + 4;
+        int sub = (idx - LINEAR) % SUB;
+        long lower = (long) (SUB + sub) << (exp - SUB_BITS);
+        return lower + (1L << (exp - SUB_BITS)) - 1;
+    }
+
+    public Snapshot snapshot() {
+        long[] c = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            c[i] = counts.get(i);
+            total += c[i];
+        }
+
+        long n = count.sum();
+        long mx = max.get();
+        return new Snapshot(
+                n,
+                n == 0 ? 0 : sum.sum() / n,
+                Math.min(mx, percentile(c, total, 0.50)),
+                Math.min(mx, percentile(c, total, 0.99)),
+                Math.min(mx, percentile(c, total, 0.999)),
+                mx
+        );
+    }
+
+    private static long percentile(long[] c, long total, double q) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < c.length; i++) {
+            seen += c[i];
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(c.length - 1);
+    }
+
+    public record Snapshot(long count, long mean, long p50, long p99, long p999, long max) {}
+}
@@ -0,0 +1,64 @@
+package com.pete.fearless_draft.metrics;
+
+import com.pete.fearless_draft.DraftManager;
+import com.pete.fearless_draft.DraftPhase;
+import com.pete.fearless_draft.DraftPresence;
+import com.pete.fearless_draft.DraftState;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+
+    private final DraftMetrics metrics;
+    private final DraftManager draftManager;
+    private final SeriesManager seriesManager;
+    private final DraftPresence presence;
+
+    public MetricsController(DraftMetrics metrics, DraftManager draftManager, SeriesManager seriesManager, DraftPresence presence) {
+        this.metrics = metrics;
+        this.draftManager = draftManager;
+        this.seriesManager = seriesManager;
+        this.presence = presence;
+    }
+
+    @GetMapping("/draft")
+    public DraftMetricsSnapshot draftMetrics() {
+        // gauges are counted on read so the mutation path doesn't pay for them
+        int active = 0, lobby = 0, complete = 0;
+        for (DraftState d : draftManager.all()) {
+            if (d.phase() == DraftPhase.COMPLETE) complete++;
+            else if (d.turnStartedAt() > 0) active++;
+            else lobby++;
+        }
+
+        return new DraftMetricsSnapshot(
+                active,
+                lobby,
+                complete,
+                seriesManager.all().size(),
+                metrics.actionsApplied(),
+                metrics.timeoutsFired(),
+                metrics.actionToBroadcastMicros(),
+                metrics.timerDriftMillis(),
+                metrics.broadcastMessages(),
+                metrics.broadcastBytesTotal(),
+                metrics.broadcastBytes(),
+                presence.watchedDrafts(),
+                presence.abandonedDrafts(),
+                metrics.broadcastsSkipped(),
+                metrics.draftsAutoPaused(),
+                metrics.draftsAutoResumed(),
+                metrics.framesConflated(),
+                metrics.slowSessionsClosed(),
+                metrics.previewsShedBySession(),
+                metrics.previewsShedByDraft(),
+                metrics.actionsShedBySession(),
+                metrics.actionsShedByDraft(),
+                metrics.rejectedByReason()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.pete.fearless_draft.series;
+
+import java.util.List;
+
+/** What POST /series/bulk created, in request order. */
+public record BulkSeriesManifest(
+        String bracket,
+        int count,
+        List<Entry> series
+) {
+    public record Entry(
+            String blueTeamName,
+            String redTeamName,
+            String seriesId,
+            String draftId      // game 1
+    ) {}
+}
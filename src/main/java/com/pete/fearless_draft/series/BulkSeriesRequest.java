@@ -0,0 +1,21 @@
+package com.pete.fearless_draft.series;
+
+import com.pete.fearless_draft.DraftTurn;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * POST /series/bulk: a whole bracket round in one call. The top-level bestOf,
+ * firstPickTeam and format apply to every entry that doesn't set its own.
+ */
+@Setter
+@Getter
+public class BulkSeriesRequest {
+    private String bracket;                     // free-form label echoed in the manifest, e.g. "Quarterfinals"
+    private int bestOf;
+    private DraftTurn firstPickTeam;
+    private String format;
+    private List<CreateSeriesRequest> series;
+}
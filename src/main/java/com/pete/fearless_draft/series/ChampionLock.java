@@ -0,0 +1,7 @@
+package com.pete.fearless_draft.series;
+
+/** GET /series/{seriesId}/champions/{championId}. */
+public record ChampionLock(
+        String championId,
+        boolean locked            // picked earlier in the series, the game in progress included
+) {}
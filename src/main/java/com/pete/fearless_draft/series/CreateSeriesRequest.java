@@ -11,5 +11,6 @@ public class CreateSeriesRequest {
     private String redTeamName;
     private DraftTurn firstPickTeam;
     private int bestOf;
+    private String format; // DraftFormatRegistry id; null = STANDARD
 
 }
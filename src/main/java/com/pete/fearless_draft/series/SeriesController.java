@@ -19,6 +19,12 @@ public class SeriesController {
         return seriesManager.createSeries(request);
     }
 
+    // Tournament provisioning: many series in one request, announced lazily on subscribe
+    @PostMapping("/bulk")
+    public BulkSeriesManifest createSeriesBulk(@RequestBody BulkSeriesRequest request) {
+        return seriesManager.createSeriesBulk(request);
+    }
+
     @PostMapping("/{seriesId}/next")
     public DraftState nextGame(@PathVariable String seriesId, @RequestBody CreateDraftRequest req) {
         return seriesManager.nextGame(seriesId, req);
@@ -28,4 +34,10 @@ public class SeriesController {
     public SeriesState getSeries(@PathVariable String seriesId) {
         return seriesManager.getSeries(seriesId);
     }
+
+    // Fearless availability: locked = picked earlier in the series, including the game in progress
+    @GetMapping("/{seriesId}/champions/{championId}")
+    public ChampionLock getChampionLock(@PathVariable String seriesId, @PathVariable String championId) {
+        return new ChampionLock(championId, seriesManager.isChampionLocked(seriesId, championId));
+    }
 }
@@ -1,6 +1,10 @@
 package com.pete.fearless_draft.series;
 
 import com.pete.fearless_draft.*;
+import com.pete.fearless_draft.cluster.ClusterCommand;
+import com.pete.fearless_draft.cluster.ClusterRouter;
+import com.pete.fearless_draft.journal.DraftJournal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -13,13 +17,40 @@ public class SeriesManager {
     private final DraftService draftService;
     private final DraftManager draftManager;
     private final SimpMessagingTemplate brokerMessagingTemplate;
+    private final DraftLanes lanes;
+    private final DraftJournal journal;
+    private final DraftStore store;
+    private final ClusterRouter cluster;
+    private final int bulkMax;
 
-    private final Map<String, SeriesState> seriesMap = new ConcurrentHashMap<>();
+    private final Set<String> unannounced = ConcurrentHashMap.newKeySet();
 
-    public SeriesManager(DraftService draftService, DraftManager draftManager, SimpMessagingTemplate brokerMessagingTemplate) {
+    public SeriesManager(
+            DraftService draftService,
+            DraftManager draftManager,
+            SimpMessagingTemplate brokerMessagingTemplate,
+            DraftLanes lanes,
+            DraftJournal journal,
+            DraftStore store,
+            ClusterRouter cluster,
+            @Value("${draft.series.bulk-max:512}") int bulkMax
+    ) {
         this.draftService = draftService;
         this.draftManager = draftManager;
         this.brokerMessagingTemplate = brokerMessagingTemplate;
+        this.lanes = lanes;
+        this.journal = journal;
+        this.store = store;
+        this.cluster = cluster;
+        this.bulkMax = bulkMax;
+    }
+
+    /** Recovered series each owe their first subscriber the current game, like bulk-created ones. */
+    public void restore(Collection<SeriesState> recovered) {
+        for (SeriesState s : recovered) {
+            store.putSeries(s);
+            unannounced.add(s.seriesId());
+        }
     }
 
     public DraftState createSeries(CreateSeriesRequest req) {
@@ -27,14 +58,96 @@ public class SeriesManager {
             throw new IllegalArgumentException("bestOf must be 3 or 5");
         }
 
-        String seriesId = UUID.randomUUID().toString();
-        String draftId = UUID.randomUUID().toString();
+        NewSeries created = prepare(req.getBlueTeamName(), req.getRedTeamName(), req.getFirstPickTeam(), req.getBestOf(), req.getFormat());
+
+        // draft first: retention drops series whose current draft doesn't exist
+        draftManager.registerDraft(created.game1());
+
+        store.putSeries(created.series());
+        journal.seriesChanged(created.series());
+
+        announceGame(created.series());
+
+        return created.game1();
+    }
+
+    /**
+     * Provision many series at once (tournament day). Every entry is validated and built
+     * first; if any is invalid nothing is created. Lobby broadcasts are skipped: each draft
+     * and series is announced when the first client subscribes to it.
+     */
+    public BulkSeriesManifest createSeriesBulk(BulkSeriesRequest req) {
+        List<CreateSeriesRequest> entries = req.getSeries() == null ? List.of() : req.getSeries();
+        if (entries.isEmpty()) throw new IllegalArgumentException("series is required");
+        if (entries.size() > bulkMax) {
+            throw new IllegalArgumentException("At most " + bulkMax + " series per request, got " + entries.size());
+        }
+
+        // pass 1: validate and build everything
+        List<NewSeries> created = new ArrayList<>(entries.size());
+        List<String> errors = new ArrayList<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            CreateSeriesRequest e = entries.get(i);
+            String blueName = e.getBlueTeamName() == null ? "" : e.getBlueTeamName().trim();
+            String redName  = e.getRedTeamName() == null ? "" : e.getRedTeamName().trim();
+            int bestOf = e.getBestOf() != 0 ? e.getBestOf() : req.getBestOf();
+            DraftTurn firstPick = e.getFirstPickTeam() != null ? e.getFirstPickTeam() : req.getFirstPickTeam();
+            String format = e.getFormat() != null && !e.getFormat().isBlank() ? e.getFormat() : req.getFormat();
+
+            if (blueName.isBlank() || redName.isBlank()) {
+                errors.add("#" + i + ": team names are required");
+            } else if (bestOf != 3 && bestOf != 5) {
+                errors.add("#" + i + ": bestOf must be 3 or 5");
+            } else if (firstPick == null) {
+                errors.add("#" + i + ": firstPickTeam is required");
+            } else {
+                try {
+                    created.add(prepare(blueName, redName, firstPick, bestOf, format));
+                } catch (IllegalArgumentException ex) {
+                    errors.add("#" + i + ": " + ex.getMessage());
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.size() + " invalid series: "
+                    + String.join("; ", errors.subList(0, Math.min(errors.size(), 10))));
+        }
+
+        // pass 2: insert, no broadcasts
+        List<BulkSeriesManifest.Entry> manifest = new ArrayList<>(created.size());
+        for (NewSeries n : created) {
+            draftManager.registerQuietly(n.game1());
+            store.putSeries(n.series());
+            journal.seriesChanged(n.series());
+            unannounced.add(n.series().seriesId());
+
+            manifest.add(new BulkSeriesManifest.Entry(
+                    n.series().blueTeamName(),
+                    n.series().redTeamName(),
+                    n.series().seriesId(),
+                    n.game1().draftId()
+            ));
+        }
+
+        return new BulkSeriesManifest(req.getBracket(), manifest.size(), manifest);
+    }
+
+    private record NewSeries(SeriesState series, DraftState game1) {}
+
+    // Builds game 1 and its series; stores nothing.
+    private NewSeries prepare(String blueName, String redName, DraftTurn firstPick, int bestOf, String format) {
+        // both owned here: a series and all of its games live on one node
+        String seriesId = cluster.newLocalId();
+        String draftId = cluster.newLocalId();
 
         DraftState game1 = draftService.createFearlessDraft(
                 draftId,
-                req.getBlueTeamName(),
-                req.getRedTeamName(),
-                req.getFirstPickTeam(),
+                blueName,
+                redName,
+                firstPick,
+                format,
                 seriesId,
                 1,
                 List.of()
@@ -42,32 +155,55 @@ public class SeriesManager {
 
         SeriesState s = new SeriesState(
                 seriesId,
-                req.getBlueTeamName(),
-                req.getRedTeamName(),
-                req.getFirstPickTeam(),
-                req.getBestOf(),
+                blueName,
+                redName,
+                firstPick,
+                bestOf,
                 1,
                 draftId,
-                new HashSet<>()
+                List.of(),
+                game1.format()
         );
 
-        seriesMap.put(seriesId, s);
+        return new NewSeries(s, game1);
+    }
 
-        draftManager.registerDraft(game1);
+    /** A client subscribed to the series topic: send the deferred game-1 event, if still owed. */
+    public void announce(String seriesId) {
+        if (!cluster.owns(seriesId)) {
+            cluster.forwardOnce(ClusterCommand.of(ClusterCommand.Op.SERIES_ANNOUNCE, seriesId));
+            return;
+        }
+        if (!unannounced.remove(seriesId)) return;
 
+        SeriesState s = store.series(seriesId);
+        if (s != null) announceGame(s);
+    }
+
+    private void announceGame(SeriesState s) {
+        // game 1's event has always said "UNKOWN"; clients may match on it
+        String firstPickTeam = s.currentGame() == 1 ? "UNKOWN" : "UNKNOWN";
         brokerMessagingTemplate.convertAndSend(
-                "/topic/series/" + seriesId,
-                new SeriesDraftCreatedEvent("SERIES_DRAFT_CREATED", seriesId, 1, draftId, "UNKOWN")
+                "/topic/series/" + s.seriesId(),
+                new SeriesDraftCreatedEvent("SERIES_DRAFT_CREATED", s.seriesId(), s.currentGame(), s.currentDraftId(), firstPickTeam)
         );
-
-        return game1;
     }
 
     /**
      * Create the next game's draft using submitted settings (like CreateDraftPage).
      */
     public DraftState nextGame(String seriesId, CreateDraftRequest req) {
-        SeriesState s = seriesMap.get(seriesId);
+        if (!cluster.owns(seriesId)) return cluster.request(ClusterCommand.nextGame(seriesId, req), DraftState.class);
+
+        // no lane for a series that isn't here
+        if (!exists(seriesId)) throw new IllegalArgumentException("Series not found: " + seriesId);
+
+        // serialized per series so two "next game" clicks can't both create a draft
+        return lanes.call(seriesId, () -> doNextGame(seriesId, req));
+    }
+
+    private DraftState doNextGame(String seriesId, CreateDraftRequest req) {
+        SeriesState s = store.series(seriesId);
         if (s == null) throw new IllegalArgumentException("Series not found: " + seriesId);
 
         if (s.currentGame() >= s.bestOf()) {
@@ -90,17 +226,15 @@ public class SeriesManager {
             throw new IllegalArgumentException("firstPickTeam is required");
         }
 
-        // picks-only fearless locks (exclude NONE)
-        Set<String> newLocked = new HashSet<>(s.lockedChampionIds());
-        for (String id : currentDraft.bluePicks()) {
-            if (!DraftConstants.NONE_CHAMPION_ID.equals(id)) newLocked.add(id);
-        }
-        for (String id : currentDraft.redPicks()) {
-            if (!DraftConstants.NONE_CHAMPION_ID.equals(id)) newLocked.add(id);
-        }
+        // picks-only fearless locks, accumulated pick by pick during the game (rebuilt if the
+        // draft has been demoted or came back from the journal)
+        FearlessLocks locks = draftService.fearlessLocks(currentDraft).nextGame();
+
+        // keep the series format unless this game asks for a different one
+        String format = req.getFormat() == null || req.getFormat().isBlank() ? s.format() : req.getFormat();
 
         int nextGameNum = s.currentGame() + 1;
-        String nextDraftId = UUID.randomUUID().toString();
+        String nextDraftId = cluster.newLocalId();
 
 
         DraftState nextDraft = draftService.createFearlessDraft(
@@ -108,9 +242,10 @@ public class SeriesManager {
                 blueName,
                 redName,
                 req.getFirstPickTeam(),
+                format,
                 s.seriesId(),
                 nextGameNum,
-                List.copyOf(newLocked)
+                locks
         );
 
         // Update series settings to match what the user just chose
@@ -122,24 +257,73 @@ public class SeriesManager {
                 s.bestOf(),
                 nextGameNum,
                 nextDraftId,
-                newLocked
+                nextDraft.lockedChampionIds(),
+                nextDraft.format()
         );
 
-        seriesMap.put(seriesId, updatedSeries);
-
         draftManager.registerDraft(nextDraft);
 
-        brokerMessagingTemplate.convertAndSend(
-                "/topic/series/" + seriesId,
-                new SeriesDraftCreatedEvent("SERIES_DRAFT_CREATED", seriesId, nextGameNum, nextDraftId, "UNKNOWN")
-        );
+        store.putSeries(updatedSeries);
+        journal.seriesChanged(updatedSeries);
+        unannounced.remove(seriesId);
+
+        announceGame(updatedSeries);
 
         return nextDraft;
     }
 
 
+    /**
+     * Whether the champion has been picked anywhere in the series so far, the game in
+     * progress included (so it can't be picked in any later game). Two map lookups and a
+     * bit test, however long the series.
+     */
+    public boolean isChampionLocked(String seriesId, String championId) {
+        if (!cluster.owns(seriesId)) {
+            return cluster.request(ClusterCommand.championLocked(seriesId, championId), Boolean.class);
+        }
+
+        SeriesState s = store.series(seriesId);
+        if (s == null) throw new IllegalArgumentException("Series not found: " + seriesId);
+
+        DraftState current = store.draft(s.currentDraftId());
+        if (current == null) return s.lockedChampionIds().contains(championId);
+        return draftService.isLocked(current, championId);
+    }
+
+    /**
+     * True while nextGame may still read this draft: it is the series' current game
+     * and the series isn't over yet.
+     */
+    public boolean needsDraft(String seriesId, String draftId) {
+        SeriesState s = store.series(seriesId);
+        return s != null
+                && draftId.equals(s.currentDraftId())
+                && s.currentGame() < s.bestOf();
+    }
+
+    /** Local only: is the series held on this node. */
+    public boolean exists(String seriesId) {
+        return store.series(seriesId) != null;
+    }
+
+    /** The series this node owns. */
+    public Collection<SeriesState> all() {
+        return store.allSeries();
+    }
+
+    public void evict(String seriesId) {
+        if (store.removeSeries(seriesId) != null) {
+            unannounced.remove(seriesId);
+            journal.seriesRemoved(seriesId);
+            lanes.remove(seriesId);
+        }
+    }
+
     public SeriesState getSeries(String seriesId) {
-        SeriesState s = seriesMap.get(seriesId);
+        if (!cluster.owns(seriesId)) return cluster.request(ClusterCommand.of(ClusterCommand.Op.SERIES_GET, seriesId), SeriesState.class);
+
+        SeriesState s = store.series(seriesId);
         if (s == null) throw new IllegalArgumentException("Series not found: " + seriesId);
         return s;
     }
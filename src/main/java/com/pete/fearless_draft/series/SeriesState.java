@@ -2,7 +2,7 @@ package com.pete.fearless_draft.series;
 
 import com.pete.fearless_draft.DraftTurn;
 
-import java.util.Set;
+import java.util.List;
 
 public record SeriesState(
         String seriesId,
@@ -12,5 +12,6 @@ public record SeriesState(
         int bestOf,
         int currentGame,
         String currentDraftId,
-        Set<String> lockedChampionIds
+        List<String> lockedChampionIds,     // immutable; shared with the current draft's FearlessLocks
+        String format
 ) {}
@@ -0,0 +1,267 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One connection's outbound frames, sent without ever blocking a broker thread and with
+ * at most one frame on the wire (the container's async send).
+ *
+ * While a frame is in flight the next ones wait here. A waiting full-state frame (draft or
+ * spectate topic, not /patches) is dropped when a newer one for the same subscription
+ * arrives, and the newer one queues at the back, behind any patches that came between
+ * them, since the client only needs the latest. Everything else queues in order.
+ * So a lagging client holds at most one state per subscription plus a short tail of
+ * patches, and a fast one never has anything waiting.
+ *
+ * Past send-buffer-limit bytes waiting, or a send stuck for send-time-limit, the session is
+ * closed (SESSION_NOT_RELIABLE) like Spring's own decorator would; the client reconnects
+ * and resyncs from a snapshot.
+ *
+ * Sits under Spring's ConcurrentWebSocketSessionDecorator, whose buffer now always drains
+ * straight away because sendMessage returns as soon as the frame is handed over.
+ */
+final class ConflatingSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflatingSessionDecorator.class);
+
+    private final Session nativeSession;
+    private final RemoteEndpoint.Async remote;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitMs;
+    private final DraftMetrics metrics;
+
+    // guarded by this
+    private final Map<Object, WebSocketMessage<?>> pending = new LinkedHashMap<>();
+    private int pendingBytes;
+    private long sequence;
+    private boolean sending;
+    private long sendStartedAt;
+    // a send call is on the stack; a completion meanwhile leaves the next frame to it
+    private boolean dispatching;
+    private boolean completedDuringDispatch;
+
+    private volatile boolean closed;
+
+    private final SendHandler onSent = this::onSent;
+
+    ConflatingSessionDecorator(WebSocketSession session, Session nativeSession, RemoteEndpoint.Async remote,
+                               int bufferSizeLimit, long sendTimeLimitMs, DraftMetrics metrics) {
+        super(session);
+        this.nativeSession = nativeSession;
+        this.remote = remote;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.metrics = metrics;
+    }
+
+    /** The session as is if it isn't a JSR-356 one (nothing to send asynchronously with). */
+    static WebSocketSession decorate(WebSocketSession session, int bufferSizeLimit, long sendTimeLimitMs, DraftMetrics metrics) {
+        Session nativeSession = session instanceof NativeWebSocketSession n ? n.getNativeSession(Session.class) : null;
+        if (nativeSession == null) return session;
+        return new ConflatingSessionDecorator(session, nativeSession, nativeSession.getAsyncRemote(), bufferSizeLimit, sendTimeLimitMs, metrics);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) return;
+
+        boolean sendNow;
+        synchronized (this) {
+            if (sending) {
+                enqueue(message);
+                if (!overLimits()) return;
+                sendNow = false;
+            } else {
+                sending = true;
+                sendStartedAt = System.nanoTime();
+                sendNow = true;
+            }
+        }
+
+        if (sendNow) send(message);
+        else slowConsumer();
+    }
+
+    // this is held
+    private void enqueue(WebSocketMessage<?> message) {
+        String subscription = conflationKey(message);
+        Object key = subscription != null ? subscription : Long.valueOf(sequence++);
+
+        WebSocketMessage<?> replaced = pending.remove(key);
+        pending.put(key, message);
+        pendingBytes += message.getPayloadLength();
+        if (replaced != null) {
+            pendingBytes -= replaced.getPayloadLength();
+            metrics.frameConflated();
+        }
+    }
+
+    // this is held; on a breach the session is marked and the caller closes it
+    private boolean overLimits() {
+        long sendingMs = (System.nanoTime() - sendStartedAt) / 1_000_000;
+        if (pendingBytes <= bufferSizeLimit && sendingMs <= sendTimeLimitMs) return false;
+
+        log.debug("Closing slow session {}: {} bytes waiting, current send {}ms", getId(), pendingBytes, sendingMs);
+        sending = false;
+        pending.clear();
+        pendingBytes = 0;
+        return true;
+    }
+
+    /*
+     * Hands frames to the container one at a time. A container may complete a send inside
+     * the send call itself; the completion then only flags it and this loop sends the next
+     * frame, so a long backlog drains without the stack growing.
+     */
+    private void send(WebSocketMessage<?> message) {
+        while (message != null) {
+            synchronized (this) {
+                dispatching = true;
+                completedDuringDispatch = false;
+            }
+            dispatch(message);
+            synchronized (this) {
+                dispatching = false;
+                message = completedDuringDispatch ? takeNext() : null;
+            }
+        }
+    }
+
+    private void dispatch(WebSocketMessage<?> message) {
+        try {
+            if (message instanceof TextMessage text) {
+                remote.sendText(text.getPayload(), onSent);
+            } else if (message instanceof BinaryMessage binary) {
+                remote.sendBinary(binary.getPayload(), onSent);
+            } else {
+                // pings/pongs: tiny and rare, the container sends them itself
+                getDelegate().sendMessage(message);
+                onSent(new SendResult(nativeSession));
+            }
+        } catch (IOException | RuntimeException e) {
+            onSent(new SendResult(nativeSession, e));
+        }
+    }
+
+    private void onSent(SendResult result) {
+        if (!result.isOK()) {
+            log.debug("Send to session {} failed", getId(), result.getException());
+            synchronized (this) {
+                sending = false;
+                pending.clear();
+                pendingBytes = 0;
+            }
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+
+        WebSocketMessage<?> next;
+        synchronized (this) {
+            if (dispatching) {
+                completedDuringDispatch = true;
+                return;
+            }
+            next = takeNext();
+        }
+        send(next);
+    }
+
+    // this is held; null (and nothing in flight any more) once there is nothing to send
+    private WebSocketMessage<?> takeNext() {
+        Iterator<WebSocketMessage<?>> it = pending.values().iterator();
+        if (closed || !sending || !it.hasNext()) {
+            sending = false;
+            return null;
+        }
+        WebSocketMessage<?> next = it.next();
+        it.remove();
+        pendingBytes -= next.getPayloadLength();
+        sendStartedAt = System.nanoTime();
+        return next;
+    }
+
+    private void slowConsumer() {
+        metrics.slowSessionClosed();
+        closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            close(status);
+        } catch (IOException e) {
+            log.debug("Closing session {} failed", getId(), e);
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closed = true;
+        synchronized (this) {
+            pending.clear();
+            pendingBytes = 0;
+        }
+        super.close(status);
+    }
+
+    /*
+     * Subscription id of a MESSAGE frame to a full-state topic, else null. Only frames that
+     * have to wait get here, and only their headers are looked at.
+     *
+     *   MESSAGE\ndestination:/topic/draft/{id}\n...subscription:{sub}\n...\n\n{body}
+     */
+    static String conflationKey(WebSocketMessage<?> message) {
+        String headers;
+        if (message instanceof TextMessage text) {
+            headers = headersOf(text.getPayload());
+        } else if (message instanceof BinaryMessage binary) {
+            byte[] bytes = new byte[Math.min(binary.getPayloadLength(), 1024)];
+            binary.getPayload().duplicate().get(bytes);
+            headers = headersOf(new String(bytes, StandardCharsets.UTF_8));
+        } else {
+            return null;
+        }
+        if (headers == null || !headers.startsWith("MESSAGE\n")) return null;
+
+        String destination = header(headers, "destination");
+        if (destination == null || destination.endsWith("/patches")) return null;
+        if (!destination.startsWith("/topic/draft/")
+                && !destination.startsWith("/topic/cbor/draft/")
+                && !destination.startsWith("/topic/spectate/")) return null;
+
+        return header(headers, "subscription");
+    }
+
+    private static String headersOf(String frame) {
+        int end = frame.indexOf("\n\n");
+        return end < 0 ? null : frame.substring(0, end + 1);
+    }
+
+    private static String header(String headers, String name) {
+        String marker = "\n" + name + ":";
+        int at = headers.indexOf(marker);
+        if (at < 0) return null;
+
+        int start = at + marker.length();
+        int end = headers.indexOf('\n', start);
+        return end < 0 ? null : headers.substring(start, end);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.time.Duration;
+
+/**
+ * Hands the STOMP handler each new connection wrapped in a ConflatingSessionDecorator
+ * (draft.ws.conflate=false leaves sessions as Spring makes them).
+ */
+@Component
+public class ConflatingSessionFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final boolean enabled;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitMs;
+    private final DraftMetrics metrics;
+
+    public ConflatingSessionFactory(
+            @Value("${draft.ws.conflate:true}") boolean enabled,
+            @Value("${draft.ws.send-buffer-limit:256KB}") DataSize bufferSizeLimit,
+            @Value("${draft.ws.send-time-limit:10s}") Duration sendTimeLimit,
+            DraftMetrics metrics
+    ) {
+        this.enabled = enabled;
+        this.bufferSizeLimit = (int) bufferSizeLimit.toBytes();
+        this.sendTimeLimitMs = sendTimeLimit.toMillis();
+        this.metrics = metrics;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled) return handler;
+
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(
+                        ConflatingSessionDecorator.decorate(session, bufferSizeLimit, sendTimeLimitMs, metrics));
+            }
+        };
+    }
+}
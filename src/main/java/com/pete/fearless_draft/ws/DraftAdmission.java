@@ -0,0 +1,176 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.DraftBroadcaster;
+import com.pete.fearless_draft.DraftRejection;
+import com.pete.fearless_draft.RejectReason;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control for /app/draft/*: token buckets per session, and per session within
+ * one draft, with previews and actions (action + ready) on separate budgets, so a hover
+ * flood never eats into the budget real picks and bans are spent from.
+ *
+ * - Per session, checked here as the SEND frame enters the inbound channel: before it is
+ *   queued for a handler or its JSON read. Caps a session across every draft it sends to.
+ * - Per session within a draft, checked by DraftSocketController once the draftId is read,
+ *   before anything reaches DraftManager. It is only spent once the session's own bucket
+ *   let the frame through, and no session can spend another's: two sessions flooding a
+ *   draft can't starve the players' picks on it, whoever the draftId says they are.
+ *
+ * A frame over either budget is dropped and counted, and its sender gets a RATE_LIMITED
+ * rejection so the client doesn't wait on a click that went nowhere.
+ *
+ * Budgets are per node. Defaults sit far above what people do (a whole draft is 20 actions
+ * in several minutes), so only scripts and runaway clients ever meet them.
+ */
+@Component
+public class DraftAdmission implements ChannelInterceptor {
+
+    static final int PREVIEW = 0;
+    static final int ACTION = 1;
+
+    private static final String PREVIEW_DESTINATION = "/app/draft/preview";
+    private static final String ACTION_DESTINATION = "/app/draft/action";
+    private static final String READY_DESTINATION = "/app/draft/ready";
+
+    private static final int PRUNE_MIN = 1024;
+
+    private final DraftMetrics metrics;
+    private final BiConsumer<String, DraftRejection> rejections;
+    private final boolean enabled;
+    private final TokenBucket[] sessionLimits;
+    private final TokenBucket[] draftLimits;
+    private final LongSupplier nanoClock;
+
+    // buckets are [PREVIEW, ACTION]; times are ns since origin, so a fresh bucket is full
+    private final long origin;
+    private final Map<String, AtomicLongArray> sessions = new ConcurrentHashMap<>();
+    // draftId -> sessionId -> buckets
+    private final Map<String, Map<String, AtomicLongArray>> drafts = new ConcurrentHashMap<>();
+    private volatile int pruneDraftsAt = PRUNE_MIN;
+
+    @Autowired
+    public DraftAdmission(
+            DraftMetrics metrics,
+            @Lazy DraftBroadcaster broadcaster,
+            @Value("${draft.admission.enabled:true}") boolean enabled,
+            @Value("${draft.admission.session.preview-rate:20}") double sessionPreviewRate,
+            @Value("${draft.admission.session.preview-burst:20}") int sessionPreviewBurst,
+            @Value("${draft.admission.session.action-rate:10}") double sessionActionRate,
+            @Value("${draft.admission.session.action-burst:10}") int sessionActionBurst,
+            // per session within one draft
+            @Value("${draft.admission.draft.preview-rate:10}") double draftPreviewRate,
+            @Value("${draft.admission.draft.preview-burst:10}") int draftPreviewBurst,
+            @Value("${draft.admission.draft.action-rate:5}") double draftActionRate,
+            @Value("${draft.admission.draft.action-burst:5}") int draftActionBurst
+    ) {
+        this(metrics, broadcaster::reject, System::nanoTime, enabled, sessionPreviewRate, sessionPreviewBurst, sessionActionRate,
+                sessionActionBurst, draftPreviewRate, draftPreviewBurst, draftActionRate, draftActionBurst);
+    }
+
+    /**
+     * @param rejections where a shed frame's RATE_LIMITED goes (DraftBroadcaster.reject in production)
+     * @param nanoClock  System.nanoTime in production; tests step it by hand
+     */
+    DraftAdmission(DraftMetrics metrics, BiConsumer<String, DraftRejection> rejections, LongSupplier nanoClock, boolean enabled,
+                   double sessionPreviewRate, int sessionPreviewBurst, double sessionActionRate, int sessionActionBurst,
+                   double draftPreviewRate, int draftPreviewBurst, double draftActionRate, int draftActionBurst) {
+        this.metrics = metrics;
+        this.rejections = rejections;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.enabled = enabled;
+        this.sessionLimits = new TokenBucket[] {
+                new TokenBucket(sessionPreviewRate, sessionPreviewBurst),
+                new TokenBucket(sessionActionRate, sessionActionBurst)
+        };
+        this.draftLimits = new TokenBucket[] {
+                new TokenBucket(draftPreviewRate, draftPreviewBurst),
+                new TokenBucket(draftActionRate, draftActionBurst)
+        };
+    }
+
+    /* ---------------- PER SESSION ---------------- */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) return message;
+
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == SimpMessageType.DISCONNECT) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if (sessionId != null) sessions.remove(sessionId);
+            return message;
+        }
+        if (type != SimpMessageType.MESSAGE) return message;
+
+        int budget = budgetOf(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (budget < 0 || sessionId == null) return message;
+
+        AtomicLongArray buckets = sessions.computeIfAbsent(sessionId, s -> new AtomicLongArray(2));
+        if (sessionLimits[budget].take(buckets, budget, nanoClock.getAsLong() - origin)) return message;
+
+        if (budget == PREVIEW) metrics.previewShedBySession();
+        else metrics.actionShedBySession();
+        rejections.accept(sessionId, DraftRejection.of(RejectReason.RATE_LIMITED));
+        return null;
+    }
+
+    // -1 for anything that isn't a draft mutation (time pings, unknown destinations)
+    private static int budgetOf(String destination) {
+        if (PREVIEW_DESTINATION.equals(destination)) return PREVIEW;
+        if (ACTION_DESTINATION.equals(destination) || READY_DESTINATION.equals(destination)) return ACTION;
+        return -1;
+    }
+
+    /* ---------------- PER DRAFT ---------------- */
+
+    /** @return false if the session is over its budget on this draft: drop the message (it's counted and rejected here) */
+    boolean admitDraft(String draftId, String sessionId, int budget) {
+        if (!enabled || draftId == null || sessionId == null) return true;
+
+        long now = nanoClock.getAsLong() - origin;
+        Map<String, AtomicLongArray> draft = drafts.get(draftId);
+        if (draft == null) {
+            draft = drafts.computeIfAbsent(draftId, d -> new ConcurrentHashMap<>());
+            if (drafts.size() > pruneDraftsAt) pruneDrafts(now);
+        }
+        AtomicLongArray buckets = draft.get(sessionId);
+        if (buckets == null) buckets = draft.computeIfAbsent(sessionId, id -> new AtomicLongArray(2));
+        if (draftLimits[budget].take(buckets, budget, now)) return true;
+
+        if (budget == PREVIEW) metrics.previewShedByDraft();
+        else metrics.actionShedByDraft();
+        rejections.accept(sessionId, DraftRejection.of(draftId, RejectReason.RATE_LIMITED));
+        return false;
+    }
+
+    /*
+     * Full buckets are the same as no bucket, so they can go: this keeps the map to drafts
+     * and sessions that saw traffic in the last second or two, whatever ids clients send.
+     * A take racing the removal may go uncounted, which at most lets one extra burst through.
+     */
+    private void pruneDrafts(long now) {
+        drafts.values().removeIf(draft -> {
+            draft.values().removeIf(buckets -> TokenBucket.full(buckets, now));
+            return draft.isEmpty();
+        });
+        pruneDraftsAt = Math.max(PRUNE_MIN, drafts.size() * 2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.DraftPresence;
+import com.pete.fearless_draft.WireFormat;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds DraftPresence from the inbound STOMP frames: SUBSCRIBE to a draft's player topic
+ * counts, UNSUBSCRIBE and DISCONNECT (sent by Spring for a closed tab or dropped socket
+ * too) take it back. Runs before the broker sees the frame, so a new subscriber is
+ * counted before it could be skipped.
+ */
+@Component
+public class DraftPresenceInterceptor implements ChannelInterceptor {
+
+    private final DraftPresence presence;
+
+    // sessionId -> subscriptionId -> what it watches, player topics only
+    private final Map<String, Map<String, Watch>> sessions = new ConcurrentHashMap<>();
+
+    private record Watch(String draftId, WireFormat format) {}
+
+    public DraftPresenceInterceptor(DraftPresence presence) {
+        this.presence = presence;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type != SimpMessageType.SUBSCRIBE && type != SimpMessageType.UNSUBSCRIBE && type != SimpMessageType.DISCONNECT) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) return message;
+
+        if (type == SimpMessageType.DISCONNECT) {
+            Map<String, Watch> subscriptions = sessions.remove(sessionId);
+            if (subscriptions != null) subscriptions.values().forEach(w -> presence.unwatch(w.draftId(), w.format()));
+            return message;
+        }
+
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (subscriptionId == null) return message;
+
+        if (type == SimpMessageType.UNSUBSCRIBE) {
+            Map<String, Watch> subscriptions = sessions.get(sessionId);
+            Watch watch = subscriptions == null ? null : subscriptions.remove(subscriptionId);
+            if (watch != null) presence.unwatch(watch.draftId(), watch.format());
+            return message;
+        }
+
+        Watch watch = playerWatch(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        if (watch != null
+                && sessions.computeIfAbsent(sessionId, s -> new ConcurrentHashMap<>()).putIfAbsent(subscriptionId, watch) == null) {
+            presence.watch(watch.draftId(), watch.format());
+        }
+        return message;
+    }
+
+    // /topic/draft/{id}[/patches] or /topic/cbor/draft/{id}[/patches]
+    private static Watch playerWatch(String destination) {
+        String id = DraftPresence.playerTopicDraftId(destination);
+        if (id == null) return null;
+        return new Watch(id, destination.startsWith("/topic/cbor/") ? WireFormat.CBOR : WireFormat.JSON);
+    }
+}
@@ -1,42 +1,100 @@
 package com.pete.fearless_draft.ws;
 
 import com.pete.fearless_draft.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+/**
+ * Nothing here throws under normal play: unknown drafts, wrong turns, taken champions and
+ * stale clicks are all sorted out on the draft's lane (see DraftManager), and an action's
+ * refusal goes back to the sending session on /user/queue/rejections.
+ */
 @Controller
 public class DraftSocketController {
 
+    private static final Logger log = LoggerFactory.getLogger(DraftSocketController.class);
+
     private final DraftManager draftManager;
+    private final DraftClock clock;
+    private final DraftAdmission admission;
+    private final DraftBroadcaster broadcaster;
 
-    public DraftSocketController(DraftManager draftManager) {
+    public DraftSocketController(DraftManager draftManager, DraftClock clock, DraftAdmission admission,
+                                 DraftBroadcaster broadcaster) {
         this.draftManager = draftManager;
+        this.clock = clock;
+        this.admission = admission;
+        this.broadcaster = broadcaster;
     }
 
+    // Each handler first checks there is a draftId and spends from the session's budget on
+    // that draft (its overall one was spent in DraftAdmission.preSend); over budget, the
+    // message is dropped before DraftManager and the session told.
+
     @MessageMapping("/draft/preview")
-    public void handlePreview(DraftPreview preview) {
-        // validates draft exists
-        draftManager.get(preview.draftId());
+    public void handlePreview(DraftPreview preview,
+                              @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!admitted(preview.draftId(), DraftAdmission.PREVIEW, sessionId)) return;
 
         // DraftManager will broadcast updated state
         draftManager.setPreview(preview.draftId(), preview.team(), preview.championId());
     }
 
     @MessageMapping("/draft/action")
-    public void handleDraftAction(DraftAction action) {
-        // validates draft exists
-        draftManager.get(action.draftId());
+    public void handleDraftAction(DraftAction action,
+                                  @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        long receivedAt = System.nanoTime();
+        if (!admitted(action.draftId(), DraftAdmission.ACTION, sessionId)) return;
 
-        // DraftManager will broadcast updated state
-        draftManager.applyAction(action.draftId(), action);
+        // DraftManager will broadcast updated state, or reject to this session
+        draftManager.applyAction(action.draftId(), action, receivedAt, sessionId);
     }
 
     @MessageMapping("/draft/ready")
-    public void handleReady(DraftReadyMessage msg) {
-        // validates draft exists
-        draftManager.get(msg.draftId());
+    public void handleReady(DraftReadyMessage msg,
+                            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        if (!admitted(msg.draftId(), DraftAdmission.ACTION, sessionId)) return;
 
         // DraftManager will broadcast updated state (and auto-start if both ready)
         draftManager.setReady(msg.draftId(), msg.team(), msg.ready());
     }
+
+    // Clock sync, see TimeSync. Only the asking session gets the reply (its session id
+    // stands in for the user when there is no Principal).
+    @MessageMapping("/time/ping")
+    @SendToUser(destinations = "/queue/time", broadcast = false)
+    public TimeSync handleTimePing(TimePing ping) {
+        long receivedAt = clock.now();
+        return new TimeSync(ping.clientSent(), receivedAt, clock.now());
+    }
+
+    // A body that isn't the JSON the destination expects: tell the sender, keep the stack trace out of the log.
+    // Only a broken client gets here.
+    @MessageExceptionHandler(MessageConversionException.class)
+    @SendToUser(destinations = DraftBroadcaster.REJECTIONS_QUEUE, broadcast = false)
+    public DraftRejection handleMalformed(MessageConversionException e) {
+        log.debug("Malformed message: {}", e.getMessage());
+        return DraftRejection.of(RejectReason.INVALID_MESSAGE);
+    }
+
+    // false if the message is dropped (the session is told): no draftId, or over its budget on the draft
+    private boolean admitted(String draftId, int budget, String sessionId) {
+        RejectReason invalid = checkDraftId(draftId);
+        if (invalid != null) {
+            broadcaster.reject(sessionId, DraftRejection.of(invalid));
+            return false;
+        }
+        return admission.admitDraft(draftId, sessionId, budget);
+    }
+
+    private static RejectReason checkDraftId(String draftId) {
+        return draftId == null || draftId.isBlank() ? RejectReason.INVALID_MESSAGE : null;
+    }
 }
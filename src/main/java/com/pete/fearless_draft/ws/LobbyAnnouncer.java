@@ -0,0 +1,71 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.DraftManager;
+import com.pete.fearless_draft.SpectatorBroadcaster;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends the lobby broadcasts that bulk provisioning skipped, the first time someone
+ * subscribes to the draft or series topic.
+ *
+ * Hooked after the broker has handled the SUBSCRIBE, so the subscription is registered
+ * by the time the snapshot is published and the new subscriber receives it.
+ * A spectator subscribing gets the current spectator frame repeated on the next flush.
+ */
+@Component
+public class LobbyAnnouncer implements ExecutorChannelInterceptor {
+
+    private final DraftManager draftManager;
+    private final SeriesManager seriesManager;
+    private final SpectatorBroadcaster spectators;
+
+    public LobbyAnnouncer(@Lazy DraftManager draftManager, @Lazy SeriesManager seriesManager, @Lazy SpectatorBroadcaster spectators) {
+        this.draftManager = draftManager;
+        this.seriesManager = seriesManager;
+        this.spectators = spectators;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (ex != null || !(handler instanceof AbstractBrokerMessageHandler)) return;
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.SUBSCRIBE) return;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) return;
+
+        String spectated = idAfter(destination, "/topic/spectate/");
+        if (spectated != null) {
+            spectators.resend(spectated);
+            return;
+        }
+
+        // /topic/draft/{id}[/patches], /topic/cbor/draft/{id}[/patches], /topic/series/{id}
+        String draftId = idAfter(destination, "/draft/");
+        if (draftId != null) {
+            draftManager.announce(draftId);
+            return;
+        }
+
+        String seriesId = idAfter(destination, "/topic/series/");
+        if (seriesId != null) seriesManager.announce(seriesId);
+    }
+
+    private static String idAfter(String destination, String marker) {
+        int at = destination.indexOf(marker);
+        if (at < 0) return null;
+
+        int start = at + marker.length();
+        int end = destination.indexOf('/', start);
+        String id = end < 0 ? destination.substring(start) : destination.substring(start, end);
+        return id.isEmpty() ? null : id;
+    }
+}
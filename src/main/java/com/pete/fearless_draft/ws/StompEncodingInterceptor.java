@@ -0,0 +1,64 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.WireFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Per-connection payload encoding. A client opts in with a CONNECT header
+ *
+ *   draft-encoding: cbor
+ *
+ * and from then on its SUBSCRIBEs to /topic/draft/** are pointed at the CBOR copy of the
+ * topic. The client code doesn't change topics; frames just arrive as binary CBOR.
+ * Ignored (JSON) unless the server has draft.broadcast.cbor=true.
+ */
+@Component
+public class StompEncodingInterceptor implements ChannelInterceptor {
+
+    public static final String ENCODING_HEADER = "draft-encoding";
+    private static final String SESSION_KEY = "draft.encoding";
+
+    private final boolean cborEnabled;
+
+    public StompEncodingInterceptor(@Value("${draft.broadcast.cbor:false}") boolean cborEnabled) {
+        this.cborEnabled = cborEnabled;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!cborEnabled) return message;
+
+        // cheap header lookups first: only CONNECT and SUBSCRIBE are of interest
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type != SimpMessageType.CONNECT && type != SimpMessageType.SUBSCRIBE) return message;
+
+        Map<String, Object> session = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+        if (session == null) return message;
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+
+        if (type == SimpMessageType.CONNECT) {
+            if ("cbor".equalsIgnoreCase(accessor.getFirstNativeHeader(ENCODING_HEADER))) {
+                session.put(SESSION_KEY, WireFormat.CBOR);
+            }
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (session.get(SESSION_KEY) == WireFormat.CBOR && destination != null && destination.startsWith("/topic/draft/")) {
+            accessor.setDestination(WireFormat.CBOR.topic(destination));
+            return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+        }
+        return message;
+    }
+}
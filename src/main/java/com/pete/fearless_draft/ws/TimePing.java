@@ -0,0 +1,6 @@
+package com.pete.fearless_draft.ws;
+
+/** /app/time/ping: clientSent is the client's own clock, echoed back untouched. */
+public record TimePing(
+        long clientSent
+) {}
@@ -0,0 +1,17 @@
+package com.pete.fearless_draft.ws;
+
+/**
+ * Reply to a TimePing on /user/queue/time, server times on the DraftClock. With t3 the
+ * client's clock when the reply lands:
+ *
+ *   offset = ((serverReceived - clientSent) + (serverSent - t3)) / 2
+ *   rtt    = (t3 - clientSent) - (serverSent - serverReceived)
+ *
+ * Keep the offset from the lowest-rtt of a few pings; server time is then client now + offset,
+ * and turnEndsAt / pausedAt can be counted down locally without waiting for the next message.
+ */
+public record TimeSync(
+        long clientSent,
+        long serverReceived,
+        long serverSent
+) {}
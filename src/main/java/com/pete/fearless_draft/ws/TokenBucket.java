@@ -0,0 +1,44 @@
+package com.pete.fearless_draft.ws;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * One rate limit (tokens per second, burst size) shared by any number of buckets. A bucket
+ * is a single long slot holding the time it will be full again: taking a token pushes that
+ * time one interval forward, and a bucket more than burst-1 intervals behind is empty.
+ *
+ * Admits exactly what a refilling token counter would (it's GCRA), but a take is one read
+ * and one CAS with nothing allocated, so shedding a flood costs next to nothing. A fresh
+ * slot (0) is a full bucket as long as callers' clocks start at 0.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    TokenBucket(double perSecond, int burst) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be > 0 and burst >= 1: " + perSecond + "/s, burst " + burst);
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000 / perSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    /** @return false if bucket i of buckets is empty at now (ns) */
+    boolean take(AtomicLongArray buckets, int i, long now) {
+        while (true) {
+            long fullAt = buckets.get(i);
+            long from = Math.max(fullAt, now);
+            if (from - now > toleranceNanos) return false;
+            if (buckets.compareAndSet(i, fullAt, from + intervalNanos)) return true;
+        }
+    }
+
+    /** True if every bucket in buckets has refilled by now: dropping them loses nothing. */
+    static boolean full(AtomicLongArray buckets, long now) {
+        for (int i = 0; i < buckets.length(); i++) {
+            if (buckets.get(i) > now) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChampionRegistryTests {
+
+    private final DraftFormatRegistry formats = new DraftFormatRegistry(new MockEnvironment());
+
+    @Test
+    void catalogIsTheWholeRegistry() {
+        ChampionRegistry champions = new ChampionRegistry(2, List.of(" Ahri", "Zed", "", "Ahri", "Lux"));
+
+        assertThat(champions.size()).isEqualTo(3);
+        assertThat(champions.capacity()).isEqualTo(3);
+        assertThat(champions.find("Zed")).isEqualTo(1);
+        assertThat(champions.accepts("Lux")).isTrue();
+        assertThat(champions.accepts("Teemo")).isFalse();
+
+        assertThatThrownBy(() -> champions.indexOf("Teemo")).isInstanceOf(DraftRejectedException.class);
+        assertThat(champions.setOf(List.of("Ahri", "Teemo", DraftConstants.NONE_CHAMPION_ID)))
+                .isEqualTo(ChampionSet.EMPTY.with(0));
+        assertThat(champions.size()).isEqualTo(3);
+    }
+
+    @Test
+    void refusedActionsInternNothing() {
+        ChampionRegistry champions = new ChampionRegistry(1024, List.of("Ahri", "Zed"));
+        DraftEngine engine = new DraftEngine(formats, champions);
+        DraftState state = newDraft(engine);
+
+        assertThat(engine.validate(state, new DraftAction("d", DraftTurn.BLUE, "MadeUp"))).isEqualTo(RejectReason.UNKNOWN_CHAMPION);
+        assertThat(engine.validate(state, new DraftAction("d", DraftTurn.RED, "MadeUp"))).isEqualTo(RejectReason.NOT_YOUR_TURN);
+        assertThatThrownBy(() -> engine.applyAction(state, new DraftAction("d", DraftTurn.BLUE, "MadeUp")))
+                .isInstanceOf(DraftRejectedException.class);
+        assertThat(champions.size()).isEqualTo(2);
+
+        DraftState next = engine.applyAction(state, new DraftAction("d", DraftTurn.BLUE, "Zed"));
+        assertThat(next.bans()).containsExactly("Zed");
+    }
+
+    @Test
+    void openRegistryInternsOnlyOnceAnActionIsApplied() {
+        ChampionRegistry champions = new ChampionRegistry(1024, List.of());
+        DraftEngine engine = new DraftEngine(formats, champions);
+        DraftState state = newDraft(engine);
+        DraftAction ban = new DraftAction("d", DraftTurn.BLUE, "Anything");
+
+        assertThat(engine.validate(state, ban)).isNull();
+        assertThat(engine.validate(state, new DraftAction("d", DraftTurn.RED, "Other"))).isEqualTo(RejectReason.NOT_YOUR_TURN);
+        assertThat(champions.size()).isZero();
+
+        engine.applyAction(state, ban);
+        assertThat(champions.find("Anything")).isZero();
+        assertThat(champions.find("Other")).isEqualTo(-1);
+    }
+
+    @Test
+    void pastTheMaxIdsAreCheckedByNameAndStayLockedAfterARebuild() {
+        DraftFormatRegistry mini = new DraftFormatRegistry(new MockEnvironment().withProperty("draft.formats.mini", "B1 B2 P1 P2"));
+        ChampionRegistry champions = new ChampionRegistry(2, List.of());
+        DraftEngine engine = new DraftEngine(mini, champions);
+        champions.intern("Made-up-1");
+        champions.intern("Made-up-2");
+        assertThat(champions.intern("Ahri")).isEqualTo(-1);
+        assertThat(champions.accepts("Ahri")).isTrue();
+
+        DraftState s = engine.createInitialState("d", "Blue", "Red", DraftTurn.BLUE, mini.resolve("mini"),
+                DraftMode.FEARLESS_SERIES, "s", 2, List.of("Ahri"));
+        s = engine.applyAction(s, new DraftAction("d", DraftTurn.BLUE, "Zed"));
+        assertThat(engine.validate(s, new DraftAction("d", DraftTurn.RED, "Zed"))).isEqualTo(RejectReason.CHAMPION_USED);
+        s = engine.applyAction(s, new DraftAction("d", DraftTurn.RED, "Lux"));
+
+        assertThat(engine.validate(s, new DraftAction("d", DraftTurn.BLUE, "Ahri"))).isEqualTo(RejectReason.CHAMPION_LOCKED);
+        s = engine.applyAction(s, new DraftAction("d", DraftTurn.BLUE, "Jinx"));
+
+        // journal replay: only the id lists come back
+        JsonMapper json = JsonMapper.builder().build();
+        DraftState replayed = json.readValue(json.writeValueAsString(s), DraftState.class);
+        assertThat(replayed.fearlessLocks()).isNull();
+        assertThat(engine.fearlessLocks(replayed).nextGame().ids()).containsExactly("Ahri", "Jinx");
+        assertThat(engine.isLocked(replayed, "Jinx")).isTrue();
+        assertThat(engine.validate(replayed, new DraftAction("d", DraftTurn.RED, "Ahri"))).isEqualTo(RejectReason.CHAMPION_LOCKED);
+        assertThat(engine.validate(replayed, new DraftAction("d", DraftTurn.RED, "Jinx"))).isEqualTo(RejectReason.CHAMPION_USED);
+    }
+
+    private DraftState newDraft(DraftEngine engine) {
+        return engine.createInitialState("d", "Blue", "Red", DraftTurn.BLUE, formats.resolve(null),
+                DraftMode.SINGLE, null, 1, List.of());
+    }
+}
@@ -0,0 +1,40 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftBroadcasterTests {
+
+    // the serverNow field and its CBOR marker, spelled out as a team name
+    private static final String HOSTILE = "iserverNow\u001b\u007f^J<+\u001d\u000e\u000f";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final DraftFormatRegistry formats = new DraftFormatRegistry(new MockEnvironment());
+    private final DraftEngine engine = new DraftEngine(formats, new ChampionRegistry(1024, List.of()));
+
+    // only the encoder is exercised: nothing is sent, watched or spectated
+    private final DraftBroadcaster broadcaster = new DraftBroadcaster(
+            null, BroadcastMode.FULL, 32, jsonMapper, true, null, new DraftClock(), null);
+
+    @Test
+    void serverNowIsSplicedIntoTheFieldNotATeamNameThatSpellsIt() {
+        DraftState s = engine.createInitialState("d", HOSTILE, "\"serverNow\":" + Long.MIN_VALUE, DraftTurn.BLUE,
+                formats.resolve(null), DraftMode.SINGLE, null, 1, List.of());
+
+        JsonNode cbor = CBORMapper.builder().build().readTree(broadcaster.toBytes(s, WireFormat.CBOR, 1234L));
+        JsonNode json = jsonMapper.readTree(broadcaster.toBytes(s, WireFormat.JSON, 1234L));
+
+        for (JsonNode sent : List.of(cbor, json)) {
+            assertThat(sent.get("serverNow").asLong()).isEqualTo(1234L);
+            assertThat(sent.get("blueTeamName").asString()).isEqualTo(HOSTILE);
+            assertThat(sent.get("redTeamName").asString()).isEqualTo("\"serverNow\":" + Long.MIN_VALUE);
+        }
+    }
+}
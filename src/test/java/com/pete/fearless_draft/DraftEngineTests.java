@@ -0,0 +1,79 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftEngineTests {
+
+    // blue bans, red bans, blue picks, red picks
+    private final DraftFormatRegistry formats = new DraftFormatRegistry(
+            new MockEnvironment().withProperty("draft.formats.mini", "B1 B2 P1 P2"));
+    private final DraftEngine engine = new DraftEngine(formats, new ChampionRegistry(1024, List.of()));
+
+    @Test
+    void validateFollowsTheTurnOrder() {
+        DraftState s = newDraft(List.of());
+
+        assertThat(engine.validate(s, action(DraftTurn.RED, "Ahri"))).isEqualTo(RejectReason.NOT_YOUR_TURN);
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, null))).isEqualTo(RejectReason.MISSING_CHAMPION);
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, DraftConstants.NONE_CHAMPION_ID))).isNull();
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Ahri"))).isNull();
+    }
+
+    @Test
+    void usedChampionsAreRefusedButNoneMayRepeat() {
+        DraftState s = engine.applyAction(newDraft(List.of()), action(DraftTurn.BLUE, "Ahri"));
+        s = engine.applyAction(s, action(DraftTurn.RED, DraftConstants.NONE_CHAMPION_ID));
+
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Ahri"))).isEqualTo(RejectReason.CHAMPION_USED);
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Zed"))).isNull();
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, DraftConstants.NONE_CHAMPION_ID))).isNull();
+    }
+
+    @Test
+    void fearlessLocksOnlyStopPicks() {
+        DraftState s = newDraft(List.of("Ahri"));
+
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Ahri"))).as("ban").isNull();
+        s = engine.applyAction(s, action(DraftTurn.BLUE, "Zed"));
+        s = engine.applyAction(s, action(DraftTurn.RED, "Lux"));
+
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Ahri"))).isEqualTo(RejectReason.CHAMPION_LOCKED);
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Teemo"))).isNull();
+    }
+
+    @Test
+    void completeDraftRefusesEverything() {
+        DraftState s = newDraft(List.of());
+        for (String champion : List.of("Ahri", "Zed", "Lux", "Teemo")) {
+            s = engine.applyAction(s, action(s.turn(), champion));
+        }
+
+        assertThat(s.phase()).isEqualTo(DraftPhase.COMPLETE);
+        assertThat(engine.validate(s, action(DraftTurn.BLUE, "Jinx"))).isEqualTo(RejectReason.DRAFT_COMPLETE);
+    }
+
+    @Test
+    void actionIsStaleOnlyForAnotherStep() {
+        DraftState s = newDraft(List.of());
+        DraftState next = engine.applyAction(s, action(DraftTurn.BLUE, "Ahri"));
+        DraftAction clickedAtStep0 = new DraftAction("d", DraftTurn.BLUE, "Zed", 0);
+
+        assertThat(clickedAtStep0.isStaleFor(s)).isFalse();
+        assertThat(clickedAtStep0.isStaleFor(next)).isTrue();
+        assertThat(action(DraftTurn.RED, "Zed").isStaleFor(next)).as("no expected step").isFalse();
+    }
+
+    private DraftState newDraft(List<String> locked) {
+        return engine.createInitialState("d", "Blue", "Red", DraftTurn.BLUE, formats.resolve("mini"),
+                DraftMode.FEARLESS_SERIES, "s", 2, locked);
+    }
+
+    private static DraftAction action(DraftTurn team, String championId) {
+        return new DraftAction("d", team, championId);
+    }
+}
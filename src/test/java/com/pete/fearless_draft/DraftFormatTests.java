@@ -0,0 +1,51 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DraftFormatTests {
+
+    @Test
+    void compilesOneTablePerFirstPickSide() {
+        DraftFormat f = DraftFormat.compile("MINI", " b1, B2 p1  P2\tp2 ");
+
+        assertThat(f.size()).isEqualTo(5);
+        assertThat(f.spec()).isEqualTo("b1, B2 p1  P2\tp2");
+        assertThat(f.countOf(DraftPhase.BAN)).isEqualTo(2);
+        assertThat(f.countOf(DraftPhase.PICK)).isEqualTo(3);
+
+        assertThat(f.step(DraftTurn.BLUE, 0)).isEqualTo(new DraftStep(DraftPhase.BAN, DraftTurn.BLUE));
+        assertThat(f.step(DraftTurn.RED, 0)).isEqualTo(new DraftStep(DraftPhase.BAN, DraftTurn.RED));
+        assertThat(f.step(DraftTurn.BLUE, 3)).isEqualTo(new DraftStep(DraftPhase.PICK, DraftTurn.RED));
+        assertThat(f.step(DraftTurn.RED, 3)).isEqualTo(new DraftStep(DraftPhase.PICK, DraftTurn.BLUE));
+        assertThat(f.steps()).hasSize(5).first().isEqualTo(new DraftStep(DraftPhase.BAN, DraftTurn.BLUE));
+    }
+
+    @Test
+    void rejectsBadSpecs() {
+        assertThatThrownBy(() -> DraftFormat.compile("X", "B1 X2")).hasMessageContaining("'X2'");
+        assertThatThrownBy(() -> DraftFormat.compile("X", "B1 P3")).hasMessageContaining("'P3'");
+        assertThatThrownBy(() -> DraftFormat.compile("X", "B11")).hasMessageContaining("'B11'");
+        assertThatThrownBy(() -> DraftFormat.compile("X", "  ")).hasMessageContaining("no steps");
+        assertThatThrownBy(() -> DraftFormat.compile(" ", "B1")).hasMessageContaining("id is required");
+    }
+
+    @Test
+    void registryHasBuiltInsAndConfiguredFormats() {
+        DraftFormatRegistry formats = new DraftFormatRegistry(
+                new MockEnvironment().withProperty("draft.formats.scrim", "P1 P2"));
+
+        DraftFormat standard = formats.resolve(null);
+        assertThat(standard.id()).isEqualTo(DraftFormatRegistry.STANDARD);
+        assertThat(standard.size()).isEqualTo(20);
+        assertThat(standard.countOf(DraftPhase.BAN)).isEqualTo(10);
+
+        assertThat(formats.resolve("ten_bans").size()).isEqualTo(20);
+        assertThat(formats.resolve("Scrim").size()).isEqualTo(2);
+        assertThat(formats.get("SCRIM")).isSameAs(formats.resolve("scrim"));
+        assertThatThrownBy(() -> formats.resolve("NOPE")).hasMessageContaining("Unknown draft format");
+    }
+}
@@ -0,0 +1,108 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftLanesTests {
+
+    private final DraftLanes lanes = new DraftLanes(false);
+
+    @AfterEach
+    void shutdown() {
+        lanes.destroy();
+    }
+
+    @Test
+    void removeFromInsideTheLaneLetsQueuedTasksFinishOnIt() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // what demote/evict do: remove the lane from one of its own tasks
+        lanes.execute("d", () -> {
+            lanes.remove("d");
+            sleep(20);
+        });
+
+        int tasks = 2_000;
+        Runnable task = () -> {
+            if (inside.incrementAndGet() > 1) overlapped.set(true);
+            if (ran.incrementAndGet() == tasks) done.countDown();
+            inside.decrementAndGet();
+        };
+        Thread other = new Thread(() -> {
+            for (int i = 0; i < tasks / 2; i++) lanes.execute("d", task);
+        });
+        other.start();
+        for (int i = 0; i < tasks / 2; i++) lanes.execute("d", task);
+        other.join();
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlapped).isFalse();
+        await(() -> lanes.size() == 0);
+    }
+
+    @Test
+    void idleLaneIsRemovedAndTheKeyStartsAfresh() {
+        assertThat(lanes.call("d", () -> 1)).isEqualTo(1);
+        await(() -> lanes.size() == 1);
+
+        // call returns once the task is done, possibly before the worker lets go of the lane
+        lanes.remove("d");
+        await(() -> lanes.size() == 0);
+
+        assertThat(lanes.call("d", () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    void removesRacingSubmitsNeverRunOneKeyTwiceAtOnce() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicInteger ran = new AtomicInteger();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        Thread remover = new Thread(() -> {
+            while (!stop.get()) lanes.remove("d");
+        });
+        remover.start();
+
+        int tasks = 20_000;
+        for (int i = 0; i < tasks; i++) {
+            lanes.execute("d", () -> {
+                if (inside.incrementAndGet() > 1) overlapped.set(true);
+                ran.incrementAndGet();
+                inside.decrementAndGet();
+            });
+        }
+        await(() -> ran.get() == tasks);
+        stop.set(true);
+        remover.join();
+
+        assertThat(overlapped).isFalse();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition within 10s").isLessThan(deadline);
+            sleep(1);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DraftManagerTests {
+
+    @Autowired
+    DraftManager draftManager;
+
+    @Autowired
+    DraftMetrics metrics;
+
+    @Autowired
+    DraftLanes lanes;
+
+    @Test
+    void doubleClickIsDroppedAsStaleNotAppliedToTheNextTurn() {
+        String id = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        draftManager.setReady(id, DraftTurn.BLUE, true);
+        draftManager.setReady(id, DraftTurn.RED, true);
+        await(() -> draftManager.get(id).turnStartedAt() > 0);
+
+        long stale = metrics.rejectedByReason().get(RejectReason.STALE_STEP);
+        DraftAction click = new DraftAction(id, DraftTurn.BLUE, "Ahri", 0);
+        draftManager.applyAction(id, click);
+        draftManager.applyAction(id, click);
+        // red's ban meant for step 1 still lands: the lane is in order
+        draftManager.applyAction(id, new DraftAction(id, DraftTurn.RED, "Zed", 1));
+        await(() -> draftManager.get(id).step() == 2);
+
+        DraftState s = draftManager.get(id);
+        assertThat(s.bans()).containsExactly("Ahri", "Zed");
+        assertThat(metrics.rejectedByReason().get(RejectReason.STALE_STEP)).isEqualTo(stale + 1);
+    }
+
+    @Test
+    void unknownDraftIdsAreRefusedWithoutALane() {
+        int before = lanes.size();
+        long notFound = metrics.rejectedByReason().get(RejectReason.DRAFT_NOT_FOUND);
+
+        draftManager.applyAction("made-up", new DraftAction("made-up", DraftTurn.BLUE, "Ahri"), System.nanoTime(), "s1");
+        draftManager.setReady("made-up", DraftTurn.BLUE, true);
+        draftManager.setPreview("made-up", DraftTurn.BLUE, "Ahri");
+        draftManager.onTurnTimeout("made-up", DraftPhase.BAN, 0, 1L);
+        assertThatThrownBy(() -> draftManager.startDraft("made-up")).hasMessageContaining("Draft not found");
+        assertThatThrownBy(() -> draftManager.pauseDraft("made-up")).hasMessageContaining("Draft not found");
+        assertThatThrownBy(() -> draftManager.resumeDraft("made-up")).hasMessageContaining("Draft not found");
+
+        assertThat(lanes.size()).isLessThanOrEqualTo(before);
+        assertThat(metrics.rejectedByReason().get(RejectReason.DRAFT_NOT_FOUND)).isEqualTo(notFound + 1);
+    }
+
+    @Test
+    void restoredDraftsNeverReuseAVersionThatWasPublished() {
+        String id = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        draftManager.setReady(id, DraftTurn.BLUE, true);
+        draftManager.setReady(id, DraftTurn.RED, true);
+        await(() -> draftManager.get(id).turnStartedAt() > 0);
+        DraftState journaled = draftManager.get(id);
+
+        // a hover goes out at journaled + 1 but never reaches the journal
+        draftManager.setPreview(id, DraftTurn.BLUE, "Ahri");
+        await(() -> draftManager.get(id).version() > journaled.version());
+        long published = draftManager.get(id).version();
+
+        draftManager.restore(List.of(journaled));
+
+        assertThat(draftManager.get(id).version()).isGreaterThan(published);
+        assertThat(draftManager.get(id).bans()).isEqualTo(journaled.bans());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the sweep is driven by hand
+@SpringBootTest(properties = {"draft.presence.grace=30s", "draft.presence.sweep-interval=1h"})
+class DraftPresenceTests {
+
+    @Autowired
+    DraftPresence presence;
+
+    @Autowired
+    DraftManager draftManager;
+
+    @Autowired
+    DraftMetrics metrics;
+
+    @Autowired
+    DraftClock clock;
+
+    @Test
+    void unwatchedDraftsAreSkipped() {
+        long skipped = metrics.broadcastsSkipped();
+        assertThat(presence.skipBroadcast("skip")).isTrue();
+
+        presence.watch("skip");
+        presence.watch("skip");
+        assertThat(presence.skipBroadcast("skip")).isFalse();
+
+        presence.unwatch("skip");
+        assertThat(presence.skipBroadcast("skip")).isFalse();
+        presence.unwatch("skip");
+        assertThat(presence.skipBroadcast("skip")).isTrue();
+        assertThat(metrics.broadcastsSkipped()).isEqualTo(skipped + 2);
+    }
+
+    @Test
+    void cborIsWantedOnlyWhileACborSessionWatches() {
+        presence.watch("cbor", WireFormat.JSON);
+        assertThat(presence.cborWatched("cbor")).isFalse();
+
+        presence.watch("cbor", WireFormat.CBOR);
+        assertThat(presence.cborWatched("cbor")).isTrue();
+
+        presence.unwatch("cbor", WireFormat.CBOR);
+        assertThat(presence.cborWatched("cbor")).isFalse();
+        assertThat(presence.skipBroadcast("cbor")).isFalse();
+
+        presence.remoteWatchCbor("cbor", true);
+        assertThat(presence.cborWatched("cbor")).isTrue();
+    }
+
+    @Test
+    void abandonedDraftIsPausedNeverEvictedAndResumedOnReturn() {
+        String id = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        draftManager.setReady(id, DraftTurn.BLUE, true);
+        draftManager.setReady(id, DraftTurn.RED, true);
+        await(() -> draftManager.get(id).turnStartedAt() > 0);
+
+        presence.watch(id);
+        presence.unwatch(id);
+        long leftAt = clock.now();
+
+        presence.sweep(leftAt + 29_000);
+        assertThat(draftManager.get(id).pausedAt()).isZero();
+
+        presence.sweep(leftAt + 30_000);
+        assertThat(draftManager.get(id).pausedAt()).isPositive();
+
+        presence.sweep(leftAt + 24 * 3_600_000L);
+        assertThat(draftManager.exists(id)).isTrue();
+
+        presence.watch(id);
+        await(() -> draftManager.get(id).pausedAt() == 0);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
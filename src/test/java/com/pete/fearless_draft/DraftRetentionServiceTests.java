@@ -0,0 +1,94 @@
+package com.pete.fearless_draft;
+
+import com.pete.fearless_draft.series.BulkSeriesManifest;
+import com.pete.fearless_draft.series.BulkSeriesRequest;
+import com.pete.fearless_draft.series.CreateSeriesRequest;
+import com.pete.fearless_draft.series.SeriesManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "draft.retention.paused-idle-ttl=1h",
+        "draft.retention.lobby-idle-ttl=2h",
+        "draft.retention.provisioned-ttl=24h",
+        "draft.retention.sweep-interval=1h"
+})
+class DraftRetentionServiceTests {
+
+    @Autowired
+    DraftRetentionService retention;
+
+    @Autowired
+    DraftManager draftManager;
+
+    @Autowired
+    SeriesManager seriesManager;
+
+    @Autowired
+    DraftClock clock;
+
+    @Test
+    void pausedDraftIsEvictedOnceIdleForPausedIdleTtl() {
+        String paused = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        draftManager.setReady(paused, DraftTurn.BLUE, true);
+        draftManager.setReady(paused, DraftTurn.RED, true);
+        await(() -> draftManager.get(paused).turnStartedAt() > 0);
+        draftManager.pauseDraft(paused);
+
+        String lobby = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+
+        long now = clock.now();
+        retention.sweep(now);
+        retention.sweep(now + 59 * 60_000L);
+        assertThat(draftManager.exists(paused)).isTrue();
+
+        retention.sweep(now + 60 * 60_000L);
+        await(() -> !draftManager.exists(paused));
+        assertThat(draftManager.exists(lobby)).as("lobby has its own, longer ttl").isTrue();
+    }
+
+    @Test
+    void bulkProvisionedSeriesOutlivesTheLobbyTtl() {
+        CreateSeriesRequest entry = new CreateSeriesRequest();
+        entry.setBlueTeamName("Blue");
+        entry.setRedTeamName("Red");
+        BulkSeriesRequest req = new BulkSeriesRequest();
+        req.setBestOf(3);
+        req.setFirstPickTeam(DraftTurn.BLUE);
+        req.setSeries(List.of(entry));
+        BulkSeriesManifest.Entry created = seriesManager.createSeriesBulk(req).series().get(0);
+
+        String lobby = draftManager.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+
+        long now = clock.now();
+        retention.sweep(now);
+        retention.sweep(now + 3 * 3_600_000L);
+        await(() -> !draftManager.exists(lobby));
+        assertThat(draftManager.exists(created.draftId())).isTrue();
+        assertThat(seriesManager.exists(created.seriesId())).isTrue();
+
+        retention.sweep(now + 24 * 3_600_000L);
+        await(() -> !draftManager.exists(created.draftId()));
+        retention.sweep(now + 24 * 3_600_000L + 60_000);
+        assertThat(seriesManager.exists(created.seriesId())).isFalse();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
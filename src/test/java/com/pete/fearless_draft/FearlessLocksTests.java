@@ -0,0 +1,50 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FearlessLocksTests {
+
+    @Test
+    void picksLockForLaterGamesOnly() {
+        FearlessLocks game1 = FearlessLocks.of(ChampionSet.EMPTY.with(0), List.of("Ahri"))
+                .withPick(1, "Zed")
+                .withPick(2, "Lux");
+
+        assertThat(game1.lockedForThisGame(0)).isTrue();
+        assertThat(game1.lockedForThisGame(1)).isFalse();
+        assertThat(game1.isLocked(1)).isTrue();
+        assertThat(game1.carriedIds()).containsExactly("Ahri");
+        assertThat(game1.ids()).containsExactly("Ahri", "Zed", "Lux");
+
+        FearlessLocks game2 = game1.nextGame();
+        assertThat(game2.lockedForThisGame(1)).isTrue();
+        assertThat(game2.lockedForThisGame(2)).isTrue();
+        assertThat(game2.carriedIds()).containsExactly("Ahri", "Zed", "Lux");
+        assertThat(game2.carried()).isEqualTo(ChampionSet.EMPTY.with(0).with(1).with(2));
+    }
+
+    @Test
+    void repeatedPickChangesNothing() {
+        FearlessLocks locks = FearlessLocks.EMPTY.withPick(3, "Zed");
+
+        assertThat(locks.withPick(3, "Zed")).isSameAs(locks);
+        assertThat(locks.size()).isEqualTo(1);
+    }
+
+    @Test
+    void branchesFromOneStateDoNotSeeEachOther() {
+        FearlessLocks base = FearlessLocks.EMPTY.withPick(0, "Ahri");
+        FearlessLocks left = base.withPick(1, "Zed");
+        FearlessLocks right = base.withPick(2, "Lux");
+
+        assertThat(left.ids()).containsExactly("Ahri", "Zed");
+        assertThat(right.ids()).containsExactly("Ahri", "Lux");
+        assertThat(left.isLocked(2)).isFalse();
+        assertThat(right.isLocked(1)).isFalse();
+        assertThat(base.ids()).containsExactly("Ahri");
+    }
+}
@@ -0,0 +1,77 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTests {
+
+    // 8 slots x 2ms: anything past 16ms goes round the wheel more than once
+    private final HashedTimingWheel wheel = new HashedTimingWheel(2, 8, "test-wheel");
+
+    HashedTimingWheelTests() {
+        wheel.start();
+    }
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void firesNoEarlierThanItsDelayAcrossSeveralRounds() throws Exception {
+        long[] delays = {0, 1, 5, 17, 40, 75};
+        CountDownLatch fired = new CountDownLatch(delays.length);
+        AtomicInteger early = new AtomicInteger();
+
+        for (long delay : delays) {
+            long scheduledAt = System.nanoTime();
+            wheel.newTimeout(() -> {
+                if (System.nanoTime() - scheduledAt < TimeUnit.MILLISECONDS.toNanos(delay)) early.incrementAndGet();
+                fired.countDown();
+            }, delay);
+        }
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(early).hasValue(0);
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() throws Exception {
+        AtomicInteger ran = new AtomicInteger();
+        HashedTimingWheel.WheelTimeout cancelled = wheel.newTimeout(ran::incrementAndGet, 20);
+        CountDownLatch later = new CountDownLatch(1);
+        wheel.newTimeout(later::countDown, 60);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).as("second cancel").isFalse();
+
+        assertThat(later.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).hasValue(0);
+        assertThat(cancelled.isExpired()).isFalse();
+    }
+
+    @Test
+    void firedTimeoutCannotBeCancelled() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        HashedTimingWheel.WheelTimeout t = wheel.newTimeout(fired::countDown, 1);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(t.cancel()).isFalse();
+        assertThat(t.isExpired()).isTrue();
+    }
+
+    @Test
+    void aFailingTaskDoesNotStopTheTicker() throws Exception {
+        wheel.newTimeout(() -> { throw new IllegalStateException("boom"); }, 1);
+        CountDownLatch fired = new CountDownLatch(1);
+        wheel.newTimeout(fired::countDown, 10);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,46 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingPreviewsTests {
+
+    private final PendingPreviews pending = new PendingPreviews();
+
+    @Test
+    void nothingOfferedDrainsToNull() {
+        assertThat(pending.drain()).isNull();
+    }
+
+    @Test
+    void latestPerTeamWinsAndDrainEmptiesIt() {
+        pending.offer(DraftTurn.BLUE, "Ahri");
+        pending.offer(DraftTurn.BLUE, "Zed");
+        pending.offer(DraftTurn.RED, "Lux");
+
+        assertThat(pending.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(DraftTurn.BLUE, "Zed", DraftTurn.RED, "Lux"));
+        assertThat(pending.drain()).isNull();
+
+        pending.offer(DraftTurn.RED, "Teemo");
+        assertThat(pending.drain()).containsOnlyKeys(DraftTurn.RED);
+    }
+
+    @Test
+    void clearedPreviewIsStillPending() {
+        pending.offer(DraftTurn.BLUE, "Ahri");
+        pending.offer(DraftTurn.BLUE, null);
+
+        Map<DraftTurn, String> drained = pending.drain();
+        assertThat(drained).containsOnlyKeys(DraftTurn.BLUE);
+        assertThat(drained.get(DraftTurn.BLUE)).isNull();
+    }
+
+    @Test
+    void previewNamedLikeTheSentinelIsNotLost() {
+        pending.offer(DraftTurn.BLUE, "<none>");
+        assertThat(pending.drain()).containsEntry(DraftTurn.BLUE, "<none>");
+    }
+}
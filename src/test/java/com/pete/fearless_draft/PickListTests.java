@@ -0,0 +1,80 @@
+package com.pete.fearless_draft;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PickListTests {
+
+    @Test
+    void appendingToAnOlderVersionCopiesAndLeavesEveryVersionIntact() {
+        List<String> a = PickList.append(List.of(), "a", 4);
+        List<String> ab = PickList.append(a, "b", 4);
+        List<String> abc = PickList.append(ab, "c", 4);
+
+        // ab's next slot is abc's: this one has to copy
+        List<String> abx = PickList.append(ab, "x", 4);
+        List<String> abxy = PickList.append(abx, "y", 4);
+
+        assertThat(a).containsExactly("a");
+        assertThat(ab).containsExactly("a", "b");
+        assertThat(abc).containsExactly("a", "b", "c");
+        assertThat(abx).containsExactly("a", "b", "x");
+        assertThat(abxy).containsExactly("a", "b", "x", "y");
+        assertThatThrownBy(() -> ab.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void growsPastItsCapacityByCopying() {
+        List<String> list = List.of();
+        for (int i = 0; i < 5; i++) list = PickList.append(list, "c" + i, 2);
+
+        assertThat(list).containsExactly("c0", "c1", "c2", "c3", "c4");
+    }
+
+    @Test
+    void concurrentAppendsToTheSameListEachKeepTheirOwnItem() throws Exception {
+        List<String> base = PickList.append(PickList.append(List.of(), "a", 64), "b", 64);
+        int threads = 8;
+
+        for (int round = 0; round < 200; round++) {
+            CountDownLatch go = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<List<String>>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    String id = "t" + t;
+                    results.add(pool.submit(() -> {
+                        go.await();
+                        return PickList.append(base, id, 64);
+                    }));
+                }
+                go.countDown();
+
+                for (int t = 0; t < threads; t++) {
+                    assertThat(results.get(t).get()).containsExactly("a", "b", "t" + t);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+            assertThat(base).containsExactly("a", "b");
+        }
+    }
+
+    @Test
+    void serializesLikeAnyList() {
+        List<String> list = PickList.append(PickList.append(List.of(), "a", 4), "b", 4);
+
+        assertThat(list).isEqualTo(List.of("a", "b"));
+        assertThat(JsonMapper.builder().build().writeValueAsString(list)).isEqualTo("[\"a\",\"b\"]");
+    }
+}
@@ -0,0 +1,29 @@
+package com.pete.fearless_draft.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamCountersTests {
+
+    @Test
+    void countsPerChampionInIndexOrderPastTheFirstGrowth() {
+        TeamCounters t = new TeamCounters();
+        for (int c = 40; c > 0; c -= 2) t.record(c, false);
+        t.record(7, true);
+        t.record(7, true);
+        t.record(40, false);
+
+        List<long[]> seen = new ArrayList<>();
+        t.forEach((champion, picks, bans) -> seen.add(new long[] {champion, picks, bans}));
+
+        assertThat(seen).hasSize(21);
+        assertThat(seen).extracting(e -> e[0]).isSorted();
+        assertThat(seen.get(0)).containsExactly(2, 1, 0);
+        assertThat(seen.get(3)).containsExactly(7, 0, 2);
+        assertThat(seen.get(20)).containsExactly(40, 2, 0);
+    }
+}
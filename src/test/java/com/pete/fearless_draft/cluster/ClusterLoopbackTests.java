@@ -0,0 +1,144 @@
+package com.pete.fearless_draft.cluster;
+
+import com.pete.fearless_draft.*;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import com.pete.fearless_draft.series.CreateSeriesRequest;
+import com.pete.fearless_draft.series.SeriesManager;
+import com.pete.fearless_draft.series.SeriesState;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Three nodes in this JVM over the loopback bus: any node can drive and see any draft. */
+class ClusterLoopbackTests {
+
+    private static final List<String> NODES = List.of("node-a", "node-b", "node-c");
+
+    private static ConfigurableApplicationContext a, b, c;
+
+    @BeforeAll
+    static void startNodes() {
+        a = start("node-a");
+        b = start("node-b");
+        c = start("node-c");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        for (ConfigurableApplicationContext ctx : new ConfigurableApplicationContext[]{a, b, c}) {
+            if (ctx != null) ctx.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return new SpringApplicationBuilder(FearlessDraftApplication.class).run(
+                "--server.port=0",
+                "--draft.cluster.enabled=true",
+                "--draft.cluster.node-id=" + nodeId,
+                "--draft.cluster.nodes=" + String.join(",", NODES)
+        );
+    }
+
+    @Test
+    void draftOwnedByOneNodeIsDrivenAndWatchedFromOthers() {
+        DraftManager onA = a.getBean(DraftManager.class);
+        DraftManager onB = b.getBean(DraftManager.class);
+        DraftManager onC = c.getBean(DraftManager.class);
+
+        Queue<String> seenOnB = new ConcurrentLinkedQueue<>();
+        Queue<String> seenOnC = new ConcurrentLinkedQueue<>();
+        b.getBean("brokerChannel", SubscribableChannel.class).subscribe(m ->
+                seenOnB.add(SimpMessageHeaderAccessor.getDestination(m.getHeaders())));
+        c.getBean("brokerChannel", SubscribableChannel.class).subscribe(m ->
+                seenOnC.add(SimpMessageHeaderAccessor.getDestination(m.getHeaders())));
+        long sentByC = c.getBean(DraftMetrics.class).broadcastMessages();
+
+        DraftState created = onA.createNewDraft("Blue", "Red", DraftTurn.BLUE, null);
+        String id = created.draftId();
+        assertThat(a.getBean(ClusterMembership.class).ownerOf(id)).isEqualTo("node-a");
+        assertThat(onB.exists(id)).isFalse();
+
+        // a player subscribed on node-c: node-a only broadcasts drafts someone watches
+        c.getBean(DraftPresence.class).watch(id);
+
+        onB.setReady(id, DraftTurn.BLUE, true);
+        onC.setReady(id, DraftTurn.RED, true);
+        await(() -> onA.get(id).turnStartedAt() > 0);
+
+        onB.applyAction(id, new DraftAction(id, DraftTurn.BLUE, "Ahri"));
+        await(() -> onC.get(id).bans().equals(List.of("Ahri")));
+
+        // node-a's broadcasts reached node-c's broker, and not node-b's: nobody watches there
+        assertThat(seenOnC).contains(DraftBroadcaster.draftTopic(id));
+        assertThat(seenOnB).doesNotContain(DraftBroadcaster.draftTopic(id));
+        // ...and were counted once, by node-a
+        assertThat(c.getBean(DraftMetrics.class).broadcastMessages()).isEqualTo(sentByC);
+        assertThat(a.getBean(DraftMetrics.class).broadcastMessages()).isPositive();
+    }
+
+    @Test
+    void refusalOfAForwardedActionReachesTheSessionOnItsOwnNode() {
+        DraftManager onA = a.getBean(DraftManager.class);
+        DraftManager onB = b.getBean(DraftManager.class);
+
+        Queue<String> seenOnA = new ConcurrentLinkedQueue<>();
+        Queue<String> seenOnB = new ConcurrentLinkedQueue<>();
+        a.getBean("brokerChannel", SubscribableChannel.class).subscribe(m ->
+                seenOnA.add(SimpMessageHeaderAccessor.getDestination(m.getHeaders())));
+        b.getBean("brokerChannel", SubscribableChannel.class).subscribe(m ->
+                seenOnB.add(SimpMessageHeaderAccessor.getDestination(m.getHeaders())));
+
+        String id = onA.createNewDraft("Blue", "Red", DraftTurn.BLUE, null).draftId();
+        onA.setReady(id, DraftTurn.BLUE, true);
+        onA.setReady(id, DraftTurn.RED, true);
+        await(() -> onA.get(id).turnStartedAt() > 0);
+
+        // red clicks on blue's turn, from a session on node-b
+        onB.applyAction(id, new DraftAction(id, DraftTurn.RED, "Ahri"), System.nanoTime(), "session-b");
+
+        String rejections = "/user/session-b" + DraftBroadcaster.REJECTIONS_QUEUE;
+        await(() -> seenOnB.contains(rejections));
+        assertThat(seenOnA).doesNotContain(rejections);
+        assertThat(a.getBean(DraftMetrics.class).rejectedByReason().get(RejectReason.NOT_YOUR_TURN)).isPositive();
+    }
+
+    @Test
+    void seriesIsReadableFromAnyNode() {
+        CreateSeriesRequest req = new CreateSeriesRequest();
+        req.setBlueTeamName("Blue");
+        req.setRedTeamName("Red");
+        req.setFirstPickTeam(DraftTurn.BLUE);
+        req.setBestOf(3);
+
+        DraftState game1 = b.getBean(SeriesManager.class).createSeries(req);
+        assertThat(b.getBean(ClusterMembership.class).ownerOf(game1.seriesId())).isEqualTo("node-b");
+        assertThat(b.getBean(ClusterMembership.class).ownerOf(game1.draftId())).isEqualTo("node-b");
+
+        SeriesState fromC = c.getBean(SeriesManager.class).getSeries(game1.seriesId());
+        assertThat(fromC.currentDraftId()).isEqualTo(game1.draftId());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pete.fearless_draft.journal;
+
+import com.pete.fearless_draft.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftJournalTests {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final DraftFormatRegistry formats = new DraftFormatRegistry(new MockEnvironment());
+    private final DraftEngine engine = new DraftEngine(formats, new ChampionRegistry(1024, List.of()));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayKeepsTheLastStatePerDraftAndHonoursRemovals() throws Exception {
+        Path file = dir.resolve("journal.log");
+        DraftJournal journal = open(file);
+
+        DraftState a = newDraft("a");
+        DraftState a1 = engine.applyAction(a, new DraftAction("a", DraftTurn.BLUE, "Ahri"));
+        journal.draftChanged(a);
+        journal.draftChanged(a1);
+        journal.draftChanged(newDraft("b"));
+        journal.draftRemoved("b");
+        journal.destroy();
+
+        JournalSnapshot snapshot = DraftJournal.replay(file, jsonMapper);
+        assertThat(snapshot.events()).isEqualTo(4);
+        assertThat(snapshot.drafts()).containsOnlyKeys("a");
+        assertThat(snapshot.drafts().get("a").bans()).containsExactly("Ahri");
+    }
+
+    @Test
+    void fullQueueParksTheLatestStatePerDraftInsteadOfDroppingIt() throws Exception {
+        Path file = dir.resolve("journal.log");
+        // no writer yet, and room for a single entry
+        DraftJournal journal = new DraftJournal(true, file, FsyncPolicy.EVERY_BATCH, 1000, 1, jsonMapper, new DraftClock());
+
+        DraftState a = newDraft("a");
+        DraftState b = newDraft("b");
+        journal.draftChanged(a);
+        journal.draftChanged(b);
+        journal.draftChanged(engine.applyAction(b, new DraftAction("b", DraftTurn.BLUE, "Zed")));
+        journal.draftChanged(engine.applyAction(a, new DraftAction("a", DraftTurn.BLUE, "Ahri")));
+
+        journal.recoverAndOpen();
+        journal.destroy();
+
+        JournalSnapshot snapshot = DraftJournal.replay(file, jsonMapper);
+        assertThat(snapshot.events()).as("a, then the latest of b and a").isEqualTo(3);
+        assertThat(snapshot.drafts().get("a").bans()).containsExactly("Ahri");
+        assertThat(snapshot.drafts().get("b").bans()).containsExactly("Zed");
+    }
+
+    @Test
+    void tornTailIsIgnoredAndGoneOnceReopened() throws Exception {
+        Path file = dir.resolve("journal.log");
+        DraftJournal journal = open(file);
+        journal.draftChanged(newDraft("a"));
+        journal.destroy();
+
+        // half a frame: a length that runs past the end of the file
+        Files.write(file, new byte[] {0, 0, 0, 100, 1, 2, 3, 4, 0, '{'}, StandardOpenOption.APPEND);
+        assertThat(DraftJournal.replay(file, jsonMapper).drafts()).containsOnlyKeys("a");
+
+        DraftJournal reopened = open(file);
+        reopened.draftChanged(newDraft("b"));
+        reopened.destroy();
+
+        JournalSnapshot snapshot = DraftJournal.replay(file, jsonMapper);
+        assertThat(snapshot.drafts()).containsOnlyKeys("a", "b");
+        assertThat(snapshot.validBytes()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void replaysDraftsJournaledBeforePausedAtExisted() throws Exception {
+        ObjectNode old = jsonMapper.valueToTree(newDraft("a"));
+        old.remove("pausedAt");
+
+        Path file = dir.resolve("journal.log");
+        Files.write(file, frame(JournalEntryType.DRAFT, jsonMapper.writeValueAsBytes(old)));
+
+        DraftState replayed = DraftJournal.replay(file, jsonMapper).drafts().get("a");
+        assertThat(replayed.pausedAt()).isZero();
+        assertThat(replayed.blueTeamName()).isEqualTo("Blue");
+    }
+
+    // int length | int crc32(type + payload) | byte type | payload
+    private static byte[] frame(JournalEntryType type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type.ordinal());
+        crc.update(payload);
+        return ByteBuffer.allocate(9 + payload.length)
+                .putInt(payload.length).putInt((int) crc.getValue()).put((byte) type.ordinal()).put(payload)
+                .array();
+    }
+
+    private DraftJournal open(Path file) {
+        DraftJournal journal = new DraftJournal(true, file, FsyncPolicy.EVERY_BATCH, 1000, 1024, jsonMapper, new DraftClock());
+        journal.recoverAndOpen();
+        return journal;
+    }
+
+    private DraftState newDraft(String draftId) {
+        return engine.createInitialState(draftId, "Blue", "Red", DraftTurn.BLUE, formats.resolve(null),
+                DraftMode.SINGLE, null, 1, List.of());
+    }
+}
@@ -0,0 +1,315 @@
+package com.pete.fearless_draft.load;
+
+import com.pete.fearless_draft.*;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import com.pete.fearless_draft.metrics.LatencyHistogram;
+import com.pete.fearless_draft.ws.DraftReadyMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness: an embedded server and N drafts played over real STOMP sessions.
+ *
+ * Each draft gets two team sessions and some spectator sessions. Teams ready up, then on
+ * every turn hover a champion on /app/draft/preview and lock it on /app/draft/action after
+ * a think time. Every timeout-every'th draft lets one turn run out, so the timer path is
+ * exercised too (turns are shortened to draft.turn-seconds=1 for that).
+ *
+ * Reports throughput, client-observed action -> broadcast latency, what the server
+ * broadcast, and what was delivered to clients (fan-out).
+ *
+ * Not part of the normal build; run it with
+ *   mvn -Pload test
+ *   mvn -Pload test -Dload.drafts=2000 -Dload.spectators=5 -Dload.spectator-topic=draft
+ */
+@Tag("load")
+class DraftLoadTests {
+
+    private static final int DRAFTS = Integer.getInteger("load.drafts", 100);
+    private static final int SPECTATORS = Integer.getInteger("load.spectators", 2);
+    private static final long THINK_MS = Long.getLong("load.think-ms", 50);
+    private static final int TIMEOUT_EVERY = Integer.getInteger("load.timeout-every", 10);
+    private static final int CONNECT_BATCH = Integer.getInteger("load.connect-batch", 200);
+    private static final long DEADLINE_S = Long.getLong("load.deadline-s", 300);
+    // "spectate" = /topic/spectate/{id}; "draft" = spectators on the players' topic
+    private static final String SPECTATOR_TOPIC = System.getProperty("load.spectator-topic", "spectate");
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static ConfigurableApplicationContext app;
+    private static WebSocketStompClient stomp;
+    private static ScheduledExecutorService thinkers;
+    private static String url;
+
+    // client side, all sessions
+    private final LatencyHistogram actionToBroadcastMicros = new LatencyHistogram();
+    private final LongAdder actionsSent = new LongAdder();
+    private final LongAdder previewsSent = new LongAdder();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder spectatorFrames = new LongAdder();
+    private final LongAdder playerTopicFrames = new LongAdder();
+
+    @BeforeAll
+    static void startServer() {
+        app = new SpringApplicationBuilder(FearlessDraftApplication.class).run(
+                "--server.port=0",
+                "--draft.turn-seconds=1",
+                "--server.tomcat.max-connections=" + Math.max(8192, DRAFTS * (2 + SPECTATORS) + 100)
+        );
+        url = "ws://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/ws";
+
+        stomp = new WebSocketStompClient(new StandardWebSocketClient());
+        stomp.setMessageConverter(new SimpleMessageConverter());
+        thinkers = Executors.newScheduledThreadPool(4, new CustomizableThreadFactory("load-think-"));
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (thinkers != null) thinkers.shutdownNow();
+        if (app != null) app.close();
+    }
+
+    @Test
+    void playManyDraftsConcurrently() throws Exception {
+        DraftManager drafts = app.getBean(DraftManager.class);
+        DraftMetrics metrics = app.getBean(DraftMetrics.class);
+
+        CountDownLatch complete = new CountDownLatch(DRAFTS);
+        List<Team> teams = new ArrayList<>(DRAFTS * 2);
+        List<CompletableFuture<StompSession>> connecting = new ArrayList<>();
+        List<StompSession> sessions = new ArrayList<>();
+
+        // connect and subscribe everyone first, so the run measures play, not handshakes
+        for (int i = 0; i < DRAFTS; i++) {
+            String draftId = drafts.createNewDraft("Blue " + i, "Red " + i, DraftTurn.BLUE, null).draftId();
+            boolean letOneTurnTimeOut = TIMEOUT_EVERY > 0 && i % TIMEOUT_EVERY == 0;
+
+            for (DraftTurn side : DraftTurn.values()) {
+                Team team = new Team(draftId, side, letOneTurnTimeOut, complete);
+                teams.add(team);
+                connecting.add(stomp.connectAsync(url, team));
+            }
+            for (int s = 0; s < SPECTATORS; s++) {
+                String topic = SPECTATOR_TOPIC.equals("draft")
+                        ? DraftBroadcaster.draftTopic(draftId)
+                        : SpectatorBroadcaster.spectateTopic(draftId);
+                connecting.add(stomp.connectAsync(url, new Spectator(topic)));
+            }
+
+            if (connecting.size() >= CONNECT_BATCH) drain(connecting, sessions);
+        }
+        drain(connecting, sessions);
+        for (Team team : teams) team.subscribed.await(30, TimeUnit.SECONDS);
+
+        long broadcastsBefore = metrics.broadcastMessages();
+        long bytesBefore = metrics.broadcastBytesTotal();
+        long startedAt = System.nanoTime();
+
+        for (Team team : teams) team.readyUp();
+
+        boolean finished = complete.await(DEADLINE_S, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        report(seconds, sessions.size(), metrics,
+                metrics.broadcastMessages() - broadcastsBefore,
+                metrics.broadcastBytesTotal() - bytesBefore);
+
+        for (StompSession s : sessions) s.disconnect();
+
+        assertThat(finished).as("all %d drafts completed within %ds", DRAFTS, DEADLINE_S).isTrue();
+        assertThat(metrics.rejectedByReason().values()).as("rejected actions").allMatch(n -> n == 0);
+    }
+
+    private static void drain(List<CompletableFuture<StompSession>> connecting, List<StompSession> into) {
+        for (CompletableFuture<StompSession> f : connecting) into.add(f.join());
+        connecting.clear();
+    }
+
+    /* ---------------- SIMULATED CLIENTS ---------------- */
+
+    /** One team's client: acts on its turns, measures send -> the broadcast showing the step moved on. */
+    private final class Team extends StompSessionHandlerAdapter {
+
+        private final String draftId;
+        private final DraftTurn side;
+        private final CountDownLatch complete;
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+
+        private boolean skipNextTurn;       // let one turn time out
+        private StompSession session;
+
+        // guarded by this: the step we last acted on (or skipped) and when the action went out
+        private int actedStep = -1;
+        private long actionSentAt;
+        private boolean done;
+
+        Team(String draftId, DraftTurn side, boolean letOneTurnTimeOut, CountDownLatch complete) {
+            this.draftId = draftId;
+            this.side = side;
+            this.complete = complete;
+            // only one side skips, otherwise the draft would time out twice
+            this.skipNextTurn = letOneTurnTimeOut && side == DraftTurn.RED;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            this.session = session;
+            session.subscribe(DraftBroadcaster.draftTopic(draftId), new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    onState((byte[]) payload);
+                }
+            });
+            subscribed.countDown();
+        }
+
+        void readyUp() {
+            send("/app/draft/ready", new DraftReadyMessage(draftId, side, true));
+        }
+
+        private void onState(byte[] payload) {
+            framesReceived.increment();
+            playerTopicFrames.increment();
+            bytesReceived.add(payload.length);
+
+            DraftState state = JSON.readValue(payload, DraftState.class);
+            int step;
+            synchronized (this) {
+                if (actionSentAt != 0 && state.step() > actedStep) {
+                    actionToBroadcastMicros.record((System.nanoTime() - actionSentAt) / 1_000);
+                    actionSentAt = 0;
+                }
+
+                if (state.phase() == DraftPhase.COMPLETE) {
+                    if (!done && side == DraftTurn.BLUE) complete.countDown();
+                    done = true;
+                    return;
+                }
+                if (state.turnStartedAt() == 0 || state.turn() != side || state.step() <= actedStep) return;
+
+                step = actedStep = state.step();
+                if (skipNextTurn) {
+                    skipNextTurn = false;
+                    return;
+                }
+            }
+
+            // hover, think, lock in; the same champion on both so a timeout would pick it too
+            String champion = "Load" + step;
+            send("/app/draft/preview", new DraftPreview(draftId, side, champion));
+            previewsSent.increment();
+
+            thinkers.schedule(() -> {
+                synchronized (this) {
+                    actionSentAt = System.nanoTime();
+                }
+                send("/app/draft/action", new DraftAction(draftId, side, champion, step));
+                actionsSent.increment();
+            }, THINK_MS, TimeUnit.MILLISECONDS);
+        }
+
+        private void send(String destination, Object body) {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            session.send(headers, JSON.writeValueAsBytes(body));
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            System.err.println("load: " + side + " session for " + draftId + " failed: " + exception);
+        }
+    }
+
+    /** Watches one topic and counts what arrives. */
+    private final class Spectator extends StompSessionHandlerAdapter {
+
+        private final String topic;
+
+        Spectator(String topic) {
+            this.topic = topic;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            session.subscribe(topic, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    framesReceived.increment();
+                    bytesReceived.add(((byte[]) payload).length);
+                    spectatorFrames.increment();
+                    if (topic.startsWith("/topic/draft/")) playerTopicFrames.increment();
+                }
+            });
+        }
+    }
+
+    /* ---------------- REPORT ---------------- */
+
+    private void report(double seconds, int sessions, DraftMetrics metrics, long broadcasts, long broadcastBytes) {
+        LatencyHistogram.Snapshot client = actionToBroadcastMicros.snapshot();
+        LatencyHistogram.Snapshot server = metrics.actionToBroadcastMicros();
+        long frames = framesReceived.sum();
+
+        StringBuilder out = new StringBuilder("\n---------------- draft load ----------------\n");
+        out.append(String.format("drafts %d, sessions %d (%d spectators/draft on /topic/%s), think %dms, %.1fs%n",
+                DRAFTS, sessions, SPECTATORS, SPECTATOR_TOPIC, THINK_MS, seconds));
+        out.append(String.format("actions   %d sent, %.0f/s; previews %d sent; timeouts %d%n",
+                actionsSent.sum(), actionsSent.sum() / seconds, previewsSent.sum(), metrics.timeoutsFired()));
+        out.append(String.format("client action->broadcast (us)  %s%n", format(client)));
+        out.append(String.format("server action->broadcast (us)  %s%n", format(server)));
+        out.append(String.format("broadcast %d msgs, %d KiB on /topic/draft/**%n", broadcasts, broadcastBytes / 1024));
+        out.append(String.format("delivered %d frames (%d spectator), %d KiB, %.0f/s, fan-out %.1f per broadcast%n",
+                frames, spectatorFrames.sum(), bytesReceived.sum() / 1024, frames / seconds,
+                broadcasts == 0 ? 0.0 : (double) playerTopicFrames.sum() / broadcasts));
+
+        Map<RejectReason, Long> rejected = metrics.rejectedByReason();
+        rejected.values().removeIf(n -> n == 0);
+        if (!rejected.isEmpty()) out.append("rejected  ").append(rejected).append('\n');
+
+        System.out.println(out);
+    }
+
+    private static String format(LatencyHistogram.Snapshot s) {
+        return String.format("n=%d mean=%d p50=%d p99=%d p999=%d max=%d",
+                s.count(), s.mean(), s.p50(), s.p99(), s.p999(), s.max());
+    }
+}
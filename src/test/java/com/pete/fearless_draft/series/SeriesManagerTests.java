@@ -0,0 +1,84 @@
+package com.pete.fearless_draft.series;
+
+import com.pete.fearless_draft.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SeriesManagerTests {
+
+    @Autowired
+    SeriesManager seriesManager;
+
+    @Autowired
+    DraftManager draftManager;
+
+    @Test
+    void nextGameAfterTheFinishedGameWasDemoted() {
+        DraftState game1 = seriesManager.createSeries(request("Blue", "Red"));
+
+        String id = game1.draftId();
+        play(id);
+
+        // compact form: no bitsets or lock index, like after a retention sweep
+        draftManager.demote(id);
+        await(() -> draftManager.get(id).fearlessLocks() == null);
+
+        CreateDraftRequest next = new CreateDraftRequest();
+        next.setBlueTeamName("Red");
+        next.setRedTeamName("Blue");
+        next.setFirstPickTeam(DraftTurn.RED);
+        DraftState game2 = seriesManager.nextGame(game1.seriesId(), next);
+
+        DraftState finished = draftManager.get(id);
+        assertThat(game2.gameNumber()).isEqualTo(2);
+        List<String> picked = new ArrayList<>(finished.bluePicks());
+        picked.addAll(finished.redPicks());
+        assertThat(game2.lockedChampionIds()).containsExactlyInAnyOrderElementsOf(picked);
+        assertThat(seriesManager.isChampionLocked(game1.seriesId(), finished.bluePicks().get(0))).isTrue();
+        assertThat(seriesManager.isChampionLocked(game1.seriesId(), finished.bans().get(0))).isFalse();
+    }
+
+    private static CreateSeriesRequest request(String blue, String red) {
+        CreateSeriesRequest req = new CreateSeriesRequest();
+        req.setBlueTeamName(blue);
+        req.setRedTeamName(red);
+        req.setFirstPickTeam(DraftTurn.BLUE);
+        req.setBestOf(3);
+        return req;
+    }
+
+    // ready both sides, then ban/pick "S0".."S19" in turn order until COMPLETE
+    private void play(String draftId) {
+        draftManager.setReady(draftId, DraftTurn.BLUE, true);
+        draftManager.setReady(draftId, DraftTurn.RED, true);
+        await(() -> draftManager.get(draftId).turnStartedAt() > 0);
+
+        while (draftManager.get(draftId).phase() != DraftPhase.COMPLETE) {
+            DraftState s = draftManager.get(draftId);
+            int step = s.step();
+            draftManager.applyAction(draftId, new DraftAction(draftId, s.turn(), "S" + step, step));
+            await(() -> draftManager.get(draftId).step() > step || draftManager.get(draftId).phase() == DraftPhase.COMPLETE);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
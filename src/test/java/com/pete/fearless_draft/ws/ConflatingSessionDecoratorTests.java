@@ -0,0 +1,137 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConflatingSessionDecoratorTests {
+
+    private final DraftMetrics metrics = new DraftMetrics();
+    private final List<String> sent = new ArrayList<>();
+    private final List<SendHandler> inFlight = new ArrayList<>();
+    private final List<CloseStatus> closes = new ArrayList<>();
+    private boolean completeInline;
+
+    @Test
+    void onlyFullStateFramesHaveAConflationKey() {
+        assertThat(ConflatingSessionDecorator.conflationKey(text(message("/topic/draft/d1", "sub-0")))).isEqualTo("sub-0");
+        assertThat(ConflatingSessionDecorator.conflationKey(text(message("/topic/spectate/d1", "sub-1")))).isEqualTo("sub-1");
+        assertThat(ConflatingSessionDecorator.conflationKey(
+                new BinaryMessage(message("/topic/cbor/draft/d1", "sub-2").getBytes(StandardCharsets.UTF_8)))).isEqualTo("sub-2");
+
+        assertThat(ConflatingSessionDecorator.conflationKey(text(message("/topic/draft/d1/patches", "sub-0")))).isNull();
+        assertThat(ConflatingSessionDecorator.conflationKey(text(message("/topic/series/s1", "sub-0")))).isNull();
+        assertThat(ConflatingSessionDecorator.conflationKey(text("RECEIPT\nreceipt-id:1\n\n\0"))).isNull();
+        assertThat(ConflatingSessionDecorator.conflationKey(text("MESSAGE\ndestination:/topic/draft/d1\nsubscription:sub-0\n"))).isNull();
+    }
+
+    @Test
+    void newerStateReplacesTheWaitingOneAndQueuesBehindPatches() throws Exception {
+        ConflatingSessionDecorator session = decorator(1 << 20);
+
+        session.sendMessage(text(frame("/topic/draft/d1", "sub-0", "s1")));
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p1")));
+        session.sendMessage(text(frame("/topic/draft/d1", "sub-0", "s2")));
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p2")));
+        session.sendMessage(text(frame("/topic/draft/d1", "sub-0", "s3")));
+        assertThat(bodies()).containsExactly("s1");
+
+        while (!inFlight.isEmpty()) inFlight.remove(0).onResult(ok());
+
+        assertThat(bodies()).containsExactly("s1", "p1", "p2", "s3");
+        assertThat(metrics.framesConflated()).isEqualTo(1);
+        assertThat(closes).isEmpty();
+    }
+
+    @Test
+    void sendsCompletedInsideTheSendCallDrainWithoutRecursing() throws Exception {
+        ConflatingSessionDecorator session = decorator(Integer.MAX_VALUE);
+
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p0")));
+        for (int i = 1; i <= 50_000; i++) {
+            session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p" + i)));
+        }
+
+        completeInline = true;
+        inFlight.remove(0).onResult(ok());
+
+        assertThat(sent).hasSize(50_001);
+        assertThat(bodies().get(50_000)).isEqualTo("p50000");
+
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "after")));
+        assertThat(bodies().get(50_001)).isEqualTo("after");
+    }
+
+    @Test
+    void waitingPastTheBufferLimitClosesTheSession() throws Exception {
+        // room for one waiting patch, not two
+        ConflatingSessionDecorator session = decorator(frame("/topic/draft/d1/patches", "sub-1", "p1").length());
+
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p0")));
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p1")));
+        assertThat(closes).isEmpty();
+
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p2")));
+        assertThat(closes).containsExactly(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(metrics.slowSessionsClosed()).isEqualTo(1);
+
+        inFlight.remove(0).onResult(ok());
+        session.sendMessage(text(frame("/topic/draft/d1/patches", "sub-1", "p3")));
+        assertThat(bodies()).containsExactly("p0");
+    }
+
+    private ConflatingSessionDecorator decorator(int bufferSizeLimit) {
+        WebSocketSession delegate = (WebSocketSession) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {WebSocketSession.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getId")) return "s";
+                    if (!method.getName().equals("close")) throw new UnsupportedOperationException(method.getName());
+                    closes.add((CloseStatus) args[0]);
+                    return null;
+                });
+        RemoteEndpoint.Async remote = (RemoteEndpoint.Async) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {RemoteEndpoint.Async.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("sendText")) throw new UnsupportedOperationException(method.getName());
+                    sent.add((String) args[0]);
+                    SendHandler handler = (SendHandler) args[1];
+                    if (completeInline) handler.onResult(ok());
+                    else inFlight.add(handler);
+                    return null;
+                });
+        return new ConflatingSessionDecorator(delegate, null, remote, bufferSizeLimit, 60_000, metrics);
+    }
+
+    private List<String> bodies() {
+        return sent.stream().map(f -> f.substring(f.indexOf("\n\n") + 2, f.length() - 1)).toList();
+    }
+
+    private static String message(String destination, String subscription) {
+        return frame(destination, subscription, "{}");
+    }
+
+    private static String frame(String destination, String subscription, String body) {
+        return "MESSAGE\ndestination:" + destination + "\nsubscription:" + subscription
+                + "\nmessage-id:1\ncontent-length:" + body.length() + "\n\n" + body + "\0";
+    }
+
+    private static SendResult ok() {
+        return new SendResult((Session) null);
+    }
+
+    private static TextMessage text(String payload) {
+        return new TextMessage(payload);
+    }
+}
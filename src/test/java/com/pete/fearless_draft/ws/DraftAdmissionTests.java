@@ -0,0 +1,130 @@
+package com.pete.fearless_draft.ws;
+
+import com.pete.fearless_draft.DraftRejection;
+import com.pete.fearless_draft.metrics.DraftMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftAdmissionTests {
+
+    private static final long MS = 1_000_000;
+
+    private final DraftMetrics metrics = new DraftMetrics();
+    private final AtomicLong nanos = new AtomicLong(42 * MS);
+    private final List<String> rejected = new ArrayList<>();
+
+    // session: previews 10/s burst 2, actions 10/s burst 1; on one draft: previews 10/s burst 3, actions 10/s burst 2
+    private final DraftAdmission admission = new DraftAdmission(metrics, this::rejected, nanos::get, true, 10, 2, 10, 1, 10, 3, 10, 2);
+
+    @Test
+    void sessionPreviewsAndActionsHaveSeparateBudgets() {
+        assertThat(admitted(send("s1", "/app/draft/preview"))).isTrue();
+        assertThat(admitted(send("s1", "/app/draft/preview"))).isTrue();
+        assertThat(admitted(send("s1", "/app/draft/preview"))).isFalse();
+
+        assertThat(admitted(send("s1", "/app/draft/action"))).isTrue();
+        assertThat(admitted(send("s1", "/app/draft/ready"))).isFalse();
+
+        assertThat(metrics.previewsShedBySession()).isEqualTo(1);
+        assertThat(metrics.actionsShedBySession()).isEqualTo(1);
+        assertThat(rejected).containsExactly("s1 RATE_LIMITED null", "s1 RATE_LIMITED null");
+    }
+
+    @Test
+    void sessionBudgetRefillsAndIsPerSession() {
+        admitted(send("s1", "/app/draft/action"));
+        assertThat(admitted(send("s1", "/app/draft/action"))).isFalse();
+        assertThat(admitted(send("s2", "/app/draft/action"))).isTrue();
+
+        nanos.addAndGet(100 * MS);
+        assertThat(admitted(send("s1", "/app/draft/action"))).isTrue();
+    }
+
+    @Test
+    void disconnectForgetsTheSessionAndOtherFramesPass() {
+        admitted(send("s1", "/app/draft/action"));
+        assertThat(admitted(send("s1", "/app/draft/action"))).isFalse();
+
+        assertThat(admitted(frame(SimpMessageType.DISCONNECT, "s1", null))).isTrue();
+        assertThat(admitted(send("s1", "/app/draft/action"))).isTrue();
+
+        for (int i = 0; i < 10; i++) assertThat(admitted(send("s1", "/app/time"))).isTrue();
+        assertThat(admitted(frame(SimpMessageType.SUBSCRIBE, "s1", "/topic/draft/d1"))).isTrue();
+    }
+
+    @Test
+    void draftBudgetsArePerSessionAndDraftAndRefill() {
+        for (int i = 0; i < 3; i++) assertThat(admission.admitDraft("d1", "s1", DraftAdmission.PREVIEW)).isTrue();
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.PREVIEW)).isFalse();
+
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.ACTION)).isTrue();
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.ACTION)).isTrue();
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.ACTION)).isFalse();
+        assertThat(admission.admitDraft("d2", "s1", DraftAdmission.ACTION)).isTrue();
+        assertThat(admission.admitDraft("d1", "s2", DraftAdmission.ACTION)).isTrue();
+
+        nanos.addAndGet(100 * MS);
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.PREVIEW)).isTrue();
+        assertThat(admission.admitDraft("d1", "s1", DraftAdmission.PREVIEW)).isFalse();
+
+        assertThat(metrics.previewsShedByDraft()).isEqualTo(2);
+        assertThat(metrics.actionsShedByDraft()).isEqualTo(1);
+        assertThat(rejected).containsExactly("s1 RATE_LIMITED d1", "s1 RATE_LIMITED d1", "s1 RATE_LIMITED d1");
+    }
+
+    @Test
+    void floodingSessionsCannotStarveAPlayersPick() {
+        // two sessions hammer d1 for a second, each at whatever its own budget lets through
+        for (int ms = 0; ms < 1_000; ms++) {
+            nanos.addAndGet(MS);
+            submitAction("flood-1", "d1");
+            submitAction("flood-2", "d1");
+        }
+
+        assertThat(submitAction("player", "d1")).isTrue();
+        assertThat(rejected).noneMatch(r -> r.startsWith("player "));
+        assertThat(rejected).anyMatch(r -> r.startsWith("flood-1 "));
+    }
+
+    @Test
+    void disabledAdmitsEverything() {
+        DraftAdmission off = new DraftAdmission(metrics, this::rejected, nanos::get, false, 10, 1, 10, 1, 10, 1, 10, 1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(off.preSend(send("s1", "/app/draft/action"), null)).isNotNull();
+            assertThat(off.admitDraft("d1", "s1", DraftAdmission.ACTION)).isTrue();
+        }
+    }
+
+    // the whole path of a pick: the session's budget in preSend, then its budget on the draft
+    private boolean submitAction(String sessionId, String draftId) {
+        return admitted(send(sessionId, "/app/draft/action")) && admission.admitDraft(draftId, sessionId, DraftAdmission.ACTION);
+    }
+
+    private void rejected(String sessionId, DraftRejection rejection) {
+        rejected.add(sessionId + " " + rejection.reason() + " " + rejection.draftId());
+    }
+
+    private boolean admitted(Message<?> message) {
+        return admission.preSend(message, null) != null;
+    }
+
+    private static Message<byte[]> send(String sessionId, String destination) {
+        return frame(SimpMessageType.MESSAGE, sessionId, destination);
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String destination) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(type);
+        headers.setSessionId(sessionId);
+        if (destination != null) headers.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+    }
+}
@@ -0,0 +1,68 @@
+package com.pete.fearless_draft.ws;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTests {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    void freshBucketAllowsTheBurstThenOnePerInterval() {
+        TokenBucket limit = new TokenBucket(10, 3);   // one token per 100ms
+        AtomicLongArray buckets = new AtomicLongArray(1);
+
+        for (int i = 0; i < 3; i++) assertThat(limit.take(buckets, 0, 0)).as("burst token %d", i).isTrue();
+        assertThat(limit.take(buckets, 0, 0)).isFalse();
+
+        assertThat(limit.take(buckets, 0, 99 * MS)).isFalse();
+        assertThat(limit.take(buckets, 0, 100 * MS)).isTrue();
+        assertThat(limit.take(buckets, 0, 100 * MS)).isFalse();
+    }
+
+    @Test
+    void refillIsCappedAtTheBurst() {
+        TokenBucket limit = new TokenBucket(10, 2);
+        AtomicLongArray buckets = new AtomicLongArray(1);
+        limit.take(buckets, 0, 0);
+        limit.take(buckets, 0, 0);
+
+        // idle for ten intervals: still only two tokens
+        long later = 1_000 * MS;
+        assertThat(limit.take(buckets, 0, later)).isTrue();
+        assertThat(limit.take(buckets, 0, later)).isTrue();
+        assertThat(limit.take(buckets, 0, later)).isFalse();
+    }
+
+    @Test
+    void bucketsSharingALimitAreIndependent() {
+        TokenBucket limit = new TokenBucket(1, 1);
+        AtomicLongArray buckets = new AtomicLongArray(2);
+
+        assertThat(limit.take(buckets, 0, 0)).isTrue();
+        assertThat(limit.take(buckets, 0, 0)).isFalse();
+        assertThat(limit.take(buckets, 1, 0)).isTrue();
+    }
+
+    @Test
+    void fullOnceEveryBucketHasRefilled() {
+        TokenBucket limit = new TokenBucket(10, 5);
+        AtomicLongArray buckets = new AtomicLongArray(2);
+        assertThat(TokenBucket.full(buckets, 0)).isTrue();
+
+        limit.take(buckets, 1, 0);
+        limit.take(buckets, 1, 0);
+        assertThat(TokenBucket.full(buckets, 199 * MS)).isFalse();
+        assertThat(TokenBucket.full(buckets, 200 * MS)).isTrue();
+    }
+
+    @Test
+    void rejectsNonsenseLimits() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}